@@ -0,0 +1,123 @@
+package com.mission.store.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최대 크기와 만료 시간을 가지는 LRU 캐시
+ * -> 세그먼트 단위로 잠금을 나누어 요청 스레드 간 경합을 줄인다.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlMillis;
+
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(int maximumSize, long ttlMillis) {
+        if (maximumSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("maximumSize, ttlMillis 는 0보다 커야 합니다.");
+        }
+
+        this.ttlMillis = ttlMillis;
+        this.segments = new Segment[SEGMENT_COUNT];
+        int segmentCapacity = Math.max(1, (maximumSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /** 캐시 조회(없거나 만료된 경우 null) */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            CacheEntry<V> entry = segment.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                segment.remove(key);
+                return null;
+            }
+
+            return entry.value;
+        }
+    }
+
+    /** 기본 만료 시간으로 캐시 저장 */
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /** 만료 시각을 지정하여 캐시 저장(기본 만료 시간을 넘지 않는다.) */
+    public void put(K key, V value, long expiresAt) {
+        long maxExpiresAt = System.currentTimeMillis() + ttlMillis;
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, new CacheEntry<>(value, Math.min(expiresAt, maxExpiresAt)));
+        }
+    }
+
+    /** 캐시 무효화 */
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /** 전체 캐시 무효화 */
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /** 저장된 항목 수(만료된 항목 포함) */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENT_COUNT - 1)];
+    }
+
+    private static final class CacheEntry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        private CacheEntry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, CacheEntry<V>> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.mission.store.config;
 
 import com.mission.store.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -56,6 +57,11 @@ public class SecurityConfiguration {
                 .antMatchers(
                         "/store/api/v1/store/register/**"
                         , "/store/api/v1/stores/owner/{id}"
+                        , "/store/api/v1/stores/{id}/close"
+                        , "/store/api/v1/stores/{storeId}/kiosk/manifest"
+                        , "/store/api/v1/stores/{storeId}/kiosk/visits"
+                        , "/store/api/v1/stores/{id}/reservations"
+                        , "/store/api/v1/stores/{storeId}/kiosk/visit"
                 )
                 .hasRole("OWNER")
 
@@ -73,6 +79,11 @@ public class SecurityConfiguration {
                         "/store/api/v1/stores"
                         , "/store/api/v1/stores/{id}"
                         , "/store/api/v1/stores/search"
+                        , "/store/api/v1/stores/nearby"
+                        , "/store/api/v1/stores/clusters"
+                        , "/store/api/v1/stores/autocomplete"
+                        , "/store/api/v1/stores/open"
+                        , "/store/api/v1/stores/{id}/availability"
                 )
                 .permitAll()
 
@@ -106,10 +117,11 @@ public class SecurityConfiguration {
 
     // Provider 설정 -> 자동 설정
 
-    // passwordEncoder
+    // passwordEncoder -> 작업 계수(strength) 변경 시 로그인 성공할 때 재암호화
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${store.password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     // TODO BLOCKED 처리 방법 고민
@@ -5,12 +5,10 @@ import com.mission.store.dto.MemberRegistration;
 import com.mission.store.dto.TokenRequestDto;
 import com.mission.store.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 
@@ -44,4 +42,19 @@ public class MemberController {
         return ResponseEntity.ok().body(memberService.refreshToken(tokenRequestDto));
     }
 
+    /** 로그아웃 */
+    @PostMapping("/member/logout")
+    public ResponseEntity<?> logout(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        memberService.logout(authorization);
+        return ResponseEntity.ok().build();
+    }
+
+    /** 회원 탈퇴 */
+    @PostMapping("/member/withdraw")
+    public ResponseEntity<?> withdraw() {
+        memberService.withdraw();
+        return ResponseEntity.ok().build();
+    }
+
 }
\ No newline at end of file
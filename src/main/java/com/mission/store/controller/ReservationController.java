@@ -1,24 +1,21 @@
 package com.mission.store.controller;
 
-import com.mission.store.domain.Store;
-import com.mission.store.dto.ReservationDto;
+import com.mission.store.dto.KioskVisitUpload;
+import com.mission.store.dto.ReservationBulkApproval;
 import com.mission.store.dto.ReservationRegistration;
-import com.mission.store.dto.StoreDto;
-import com.mission.store.exception.StoreException;
-import com.mission.store.repository.StoreRepository;
+import com.mission.store.dto.StoreAvailability;
 import com.mission.store.service.ReservationService;
 import com.mission.store.type.ReservationApprovalStatus;
+import com.mission.store.type.ReservationVisitStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import static com.mission.store.type.ErrorCode.INVALID_STORE_ID;
+import java.time.LocalDate;
 
 @RequestMapping("/store/api/v1")
 @RestController
@@ -26,7 +23,6 @@ import static com.mission.store.type.ErrorCode.INVALID_STORE_ID;
 public class ReservationController {
 
     private final ReservationService reservationService;
-    private final StoreRepository storeRepository;
 
     /** 예약 요청 */
     @PostMapping("/reservations")
@@ -51,18 +47,54 @@ public class ReservationController {
         return ResponseEntity.ok().build();
     }
 
-    /** 매장 점주가 매장의 매장 정보와 해당 매장의 모든 예약 확인 */
+    /** 키오스크 예약 코드로 방문 확인 */
+    @PutMapping("/stores/{storeId}/kiosk/visit")
+    public ResponseEntity<?> confirmVisitByCode(
+            @PathVariable Long storeId
+            , @RequestParam("reservationCode") String reservationCode) {
+        reservationService.confirmVisitByCode(storeId, reservationCode);
+        return ResponseEntity.ok().build();
+    }
+
+    /** 키오스크 오프라인 방문 확인용 예약 매니페스트(서명된 바이너리, 기본값 오늘) */
+    @GetMapping("/stores/{storeId}/kiosk/manifest")
+    public ResponseEntity<byte[]> getKioskManifest(
+            @PathVariable Long storeId
+            , @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(reservationService.getKioskManifest(storeId, date == null ? LocalDate.now() : date));
+    }
+
+    /** 키오스크에서 오프라인으로 확인한 방문 일괄 업로드 */
+    @PostMapping("/stores/{storeId}/kiosk/visits")
+    public ResponseEntity<KioskVisitUpload.Response> uploadKioskVisits(
+            @PathVariable Long storeId
+            , @Valid @RequestBody KioskVisitUpload.Request request) {
+        return ResponseEntity.ok().body(reservationService.uploadKioskVisits(storeId, request));
+    }
+
+    /** 매장 점주가 매장의 예약 확인(기간, 승인 상태, 방문 상태 조건, 키셋 페이지네이션) */
     @GetMapping("/stores/{id}/reservations")
-    public ResponseEntity<?> getReservationsByStoreId(@PathVariable Long id) {
-        Store store = storeRepository.findById(id)
-                .orElseThrow(() -> new StoreException(INVALID_STORE_ID));
-        StoreDto storeDto = StoreDto.fromEntity(store);
-        List<ReservationDto> reservations = reservationService.getReservationsByStoreId(id);
+    public ResponseEntity<?> getReservationsByStoreId(
+            @PathVariable Long id
+            , @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate
+            , @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate
+            , @RequestParam(value = "approvalStatus", required = false) ReservationApprovalStatus approvalStatus
+            , @RequestParam(value = "visitStatus", required = false) ReservationVisitStatus visitStatus
+            , @RequestParam(value = "cursor", required = false) String cursor
+            , @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok().body(reservationService.getReservationsByStoreId(
+                id, fromDate, toDate, approvalStatus, visitStatus, cursor, size));
+    }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("store", storeDto);
-        response.put("reservations", reservations);
-        return ResponseEntity.ok().body(response);
+    /** 매장의 날짜별 예약 가능 시간대 조회 */
+    @GetMapping("/stores/{id}/availability")
+    public ResponseEntity<StoreAvailability> getAvailability(
+            @PathVariable Long id
+            , @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+            , @RequestParam(value = "partySize", defaultValue = "1") int partySize) {
+        return ResponseEntity.ok().body(reservationService.getAvailability(id, date, partySize));
     }
 
     /** 매장 점주가 예약 승인 및 거절 */
@@ -73,4 +105,11 @@ public class ReservationController {
         reservationService.approveOrRejectReservation(id, status);
         return ResponseEntity.ok().build();
     }
+
+    /** 매장 점주가 예약 일괄 승인 및 거절 */
+    @PostMapping("/reservations/approval")
+    public ResponseEntity<ReservationBulkApproval.Response> approveOrRejectReservations(
+            @Valid @RequestBody ReservationBulkApproval.Request request) {
+        return ResponseEntity.ok().body(reservationService.approveOrRejectReservations(request));
+    }
 }
@@ -1,15 +1,22 @@
 package com.mission.store.controller;
 
+import com.mission.store.dto.NearbyStore;
+import com.mission.store.dto.StoreCluster;
 import com.mission.store.dto.StoreDto;
 import com.mission.store.dto.StoreRegistration;
 import com.mission.store.dto.StoreSearchResult;
+import com.mission.store.dto.StoreSuggestion;
+import com.mission.store.dto.StoreSummary;
 import com.mission.store.service.StoreService;
+import com.mission.store.type.StoreSortType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,14 +36,13 @@ public class StoreController {
         return ResponseEntity.status(HttpStatus.CREATED).body(storeService.registerStore(memberId, request));
     }
     
-    /** 매장 전체 보기 */
+    /** 매장 전체 보기(커서 기반 페이지네이션) */
     @GetMapping("/stores")
-    public ResponseEntity<?> getStores() {
-        List<StoreDto> stores = storeService.getStores();
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("stores", stores);
-        return ResponseEntity.ok().body(response);
+    public ResponseEntity<?> getStores(
+            @RequestParam(value = "sort", defaultValue = "ID") StoreSortType sortType
+            , @RequestParam(value = "cursor", required = false) String cursor
+            , @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok().body(storeService.getStores(sortType, cursor, size));
     }
     
     /** 매장 상세 보기 */
@@ -48,8 +54,9 @@ public class StoreController {
     /** 매장 검색 */
     @GetMapping("/stores/search")
     public ResponseEntity<?> searchStores(
-            @RequestParam("name") String name) {
-        List<StoreSearchResult> storeSearchResults = storeService.searchStoresByName(name);
+            @RequestParam("name") String name
+            , @RequestParam(value = "size", defaultValue = "20") int size) {
+        List<StoreSearchResult> storeSearchResults = storeService.searchStoresByName(name, size);
 
         Map<String, Object> response = new HashMap<>();
         response.put("storeSearchResults", storeSearchResults);
@@ -57,6 +64,69 @@ public class StoreController {
         return ResponseEntity.ok().body(response);
     }
 
+    /** 특정 시각(기본: 현재)에 영업 중인 매장 조회(이름 검색, 근처 매장 조건과 함께 사용 가능) */
+    @GetMapping("/stores/open")
+    public ResponseEntity<?> getOpenStores(
+            @RequestParam(value = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+            , @RequestParam(value = "name", required = false) String name
+            , @RequestParam(value = "lat", required = false) Double lat
+            , @RequestParam(value = "lon", required = false) Double lon
+            , @RequestParam(value = "radius", defaultValue = "1000") int radius
+            , @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        List<StoreSummary> stores = storeService.getOpenStores(
+                at == null ? LocalDateTime.now() : at, name, lat, lon, radius, limit);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("stores", stores);
+        return ResponseEntity.ok().body(response);
+    }
+
+    /** 매장 이름 자동완성(초성, 입력 중인 자모 포함) */
+    @GetMapping("/stores/autocomplete")
+    public ResponseEntity<?> autocompleteStoreNames(
+            @RequestParam("q") String query
+            , @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<StoreSuggestion> suggestions = storeService.autocompleteStoreNames(query, limit);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("suggestions", suggestions);
+        return ResponseEntity.ok().body(response);
+    }
+
+    /** 근처 매장 조회(반경 radius 미터 내 가까운 순) */
+    @GetMapping("/stores/nearby")
+    public ResponseEntity<?> getNearbyStores(
+            @RequestParam("lat") double lat
+            , @RequestParam("lon") double lon
+            , @RequestParam(value = "radius", defaultValue = "1000") int radius
+            , @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        List<NearbyStore> stores = storeService.getNearbyStores(lat, lon, radius, limit);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("stores", stores);
+        return ResponseEntity.ok().body(response);
+    }
+
+    /** 지도 영역의 매장 클러스터 조회(bbox: 최소 경도,최소 위도,최대 경도,최대 위도) */
+    @GetMapping("/stores/clusters")
+    public ResponseEntity<?> getStoreClusters(
+            @RequestParam("bbox") String bbox
+            , @RequestParam("zoom") int zoom) {
+        List<StoreCluster> clusters = storeService.getStoreClusters(bbox, zoom);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("clusters", clusters);
+        return ResponseEntity.ok().body(response);
+    }
+
+    /** 매장 폐업 */
+    @PutMapping("/stores/{id}/close")
+    public ResponseEntity<?> closeStore(@PathVariable Long id) {
+        storeService.closeStore(id);
+        return ResponseEntity.ok().build();
+    }
+
     /** 점주가 관리하는 매장 조회 */
     @GetMapping("/stores/owner/{id}")
     public ResponseEntity<?> getStoresByOwnerId(@PathVariable Long id) {
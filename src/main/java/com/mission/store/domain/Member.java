@@ -18,7 +18,7 @@ public class Member extends BaseEntity {
     private String email;
     @Column(nullable = false, unique = true)
     private String phone;
-    @Column(nullable = false)
+    @Column(nullable = false, unique = true)
     private String nickname;
     @Column(nullable = false)
     private String password;
@@ -32,4 +32,13 @@ public class Member extends BaseEntity {
 
     private LocalDateTime registeredAt; // TODO 가입 인증 후 회원 활성화 등록 시간
     private LocalDateTime unregisteredAt; // BLOCKED(정지), WITHDRAWN(탈퇴) 일자
+
+    public void updatePassword(String password) {
+        this.password = password;
+    }
+
+    public void updateMemberStatus(MemberStatus memberStatus) {
+        this.memberStatus = memberStatus;
+        this.unregisteredAt = memberStatus == MemberStatus.ACTIVE ? null : LocalDateTime.now();
+    }
 }
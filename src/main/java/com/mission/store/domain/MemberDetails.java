@@ -1,8 +1,10 @@
 package com.mission.store.domain;
 
+import com.mission.store.type.MemberRole;
 import com.mission.store.type.MemberStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,29 +13,49 @@ import java.util.Collection;
 import java.util.Collections;
 
 @Getter
-@RequiredArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class MemberDetails implements UserDetails {
 
-    private final Member member;
+    private final Long memberId;
+    private final String email;
+    private final String phone;
+    private final String password;
+    private final MemberRole memberRole;
+    private final MemberStatus memberStatus;
+
+    public MemberDetails(Member member) {
+        this(member.getId()
+                , member.getEmail()
+                , member.getPhone()
+                , member.getPassword()
+                , member.getMemberRole()
+                , member.getMemberStatus());
+    }
+
+    /** 토큰 클레임으로 인증 정보 생성(비밀번호 미포함) */
+    public static MemberDetails fromToken(Long memberId, String email, String phone
+            , MemberRole memberRole, MemberStatus memberStatus) {
+        return new MemberDetails(memberId, email, phone, "", memberRole, memberStatus);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
 
         /* 권한 -> 손님, 점주, TODO 어드민 */
-        GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(member.getMemberRole().getAuthority());
+        GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(memberRole.getAuthority());
         return Collections.singleton(grantedAuthority);
     }
 
     // 사용자 암호화된 비밀번호를 반환
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     // 사용자 고유 식별자인 이메일 반환
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
     }
 
     // 사용자 계정 만료여부 반환
@@ -57,6 +79,6 @@ public class MemberDetails implements UserDetails {
     // 사용자 계정 사용 가능여부 확인
     @Override
     public boolean isEnabled() {
-        return member.getMemberStatus() == MemberStatus.ACTIVE;
+        return memberStatus == MemberStatus.ACTIVE;
     }
 }
@@ -4,12 +4,19 @@ import lombok.*;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_member_id", columnList = "member_id", unique = true),
+        @Index(name = "idx_refresh_token_expired_at", columnList = "expired_at")
+})
 public class RefreshToken extends BaseEntity {
 
     @Column(name = "member_id", nullable = false)
@@ -18,8 +25,12 @@ public class RefreshToken extends BaseEntity {
     @Column(nullable = false)
     private String token;
 
-    public RefreshToken updateToken(String token) {
+    @Column(name = "expired_at")
+    private LocalDateTime expiredAt; // 리프레시 토큰 만료 일자
+
+    public RefreshToken updateToken(String token, LocalDateTime expiredAt) {
         this.token = token;
+        this.expiredAt = expiredAt;
         return this;
     }
 }
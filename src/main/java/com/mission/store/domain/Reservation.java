@@ -6,14 +6,26 @@ import lombok.*;
 
 import javax.persistence.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
+// 유니크 키의 앞 컬럼(store_id, reservation_date, reservation_time)이 매장-날짜 예약 조회 인덱스를 겸한다.
+@Table(uniqueConstraints = @UniqueConstraint(name = Reservation.ACTIVE_SLOT_CONSTRAINT
+        , columnNames = {"store_id", "reservation_date", "reservation_time", "active_slot"})
+        , indexes = @Index(name = "idx_reservation_store_reserved_at", columnList = "store_id, reserved_at"))
 public class Reservation extends BaseEntity {
 
+    // 시간대당 예약 1건인 매장의 중복 예약을 막는 유니크 키
+    public static final String ACTIVE_SLOT_CONSTRAINT = "uk_reservation_active_slot";
+
+    // 예약 시간 이후 방문 확인이 가능한 시간(분), 지나면 노쇼 처리
+    public static final int ARRIVAL_THRESHOLD_MINUTES = 10;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id", referencedColumnName = "id", nullable = false)
     private Store store;
@@ -22,13 +34,21 @@ public class Reservation extends BaseEntity {
     @JoinColumn(name = "member_id", referencedColumnName = "id", nullable = false)
     private Member customer;
 
+    @Column(name = "reservation_date")
     private LocalDate reservationDate; // 예약 시간(2023.06.22)
+    @Column(name = "reservation_time")
     private String reservationTime; // 예약 시간(13:00)
+    @Column(name = "reserved_at")
+    private LocalDateTime reservedAt; // 예약 일시(예약 날짜 + 예약 시간, 시간 범위 조회용)
     private String reservationMemo; // 예약 메모
     private int numberOfCustomer; // 예약 인원 수
 
     private String reservationCode; // 예약코드(임의의 4개의 숫자("1189"))
 
+    // 시간대당 예약 1건인 매장의 유효한 예약이면 true, 아니면 null(유니크 키에서 제외)
+    @Column(name = "active_slot")
+    private Boolean activeSlot;
+
     @Enumerated(EnumType.STRING)
     private ReservationVisitStatus reservationVisitStatus; // 방문 상태
     @Enumerated(EnumType.STRING)
@@ -41,4 +61,13 @@ public class Reservation extends BaseEntity {
     public void updateReservationApprovalStatus(ReservationApprovalStatus reservationApprovalStatus) {
         this.reservationApprovalStatus = reservationApprovalStatus;
     }
+
+    public void releaseActiveSlot() {
+        this.activeSlot = null;
+    }
+
+    /** 예약 일시(예약 일시 백필 전이면 예약 날짜 + 예약 시간으로 계산) */
+    public LocalDateTime resolveReservedAt() {
+        return reservedAt != null ? reservedAt : LocalDateTime.of(reservationDate, LocalTime.parse(reservationTime));
+    }
 }
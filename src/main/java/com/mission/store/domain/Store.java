@@ -14,9 +14,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
+// 평점순 키셋 조회(average_rating desc, id asc)를 filesort 없이 인덱스 순서로 읽도록 평점은 내림차순(MySQL 8)
+@Table(indexes = @Index(name = "idx_store_average_rating", columnList = "average_rating desc, id"))
 public class Store extends BaseEntity {
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", referencedColumnName = "id", nullable = false)
     private Member owner;
 
@@ -37,10 +39,12 @@ public class Store extends BaseEntity {
     private double lon; // 경도
 
     private Integer reviewCount; // 상점 리뷰 개수
+    @Column(name = "average_rating")
     private double averageRating; // 상점 리뷰 평점(0.0 - 5.0)
 
     private String businessHours; // 영업 시간(09:00 - 18:00)
     private String breakTime; // 휴무 시간(15:00 - 16:00)
+    private Integer slotCapacity; // 예약 시간대별 최대 인원 수(없으면 시간대당 예약 1건)
 
     private LocalDateTime outOfBusinessAt; // 폐업 일자
 
@@ -51,4 +55,9 @@ public class Store extends BaseEntity {
     public void updateAverageRating(double averageRating) {
         this.averageRating = averageRating;
     }
+
+    public void closeStore() {
+        this.storeStatus = StoreStatus.OUT_OF_BUSINESS;
+        this.outOfBusinessAt = LocalDateTime.now();
+    }
 }
@@ -0,0 +1,202 @@
+package com.mission.store.domain;
+
+import java.time.DayOfWeek;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * 매장 영업 시간, 휴무 시간을 요일별 분(minute-of-day) 비트셋으로 컴파일한 값 객체
+ * -> 형식: "09:00 - 18:00" 또는 "MON-FRI 09:00 - 18:00, SAT 10:00 - 14:00"(요일 생략 시 매일)
+ * -> 종료 시간이 시작 시간보다 이르면 자정을 넘겨 다음 날 종료 시간까지로 본다.
+ *    ("FRI 22:00 - 02:00" -> 금요일 22:00 - 24:00, 토요일 00:00 - 02:00)
+ * -> 시작 시간과 종료 시간이 같은 구간은 유효하지 않다.(하루 종일은 "00:00 - 24:00")
+ * -> 영업 시간이 없으면(유효한 구간이 하나도 없는 경우 포함) 하루 종일 영업, 휴무 시간이 없으면 휴무 없음
+ * -> 조회(isOpen, isBreakTime, isBusinessHours)는 비트 연산만 수행하며 객체를 만들지 않는다.
+ */
+public final class StoreSchedule {
+
+    private static final String DAY = "(MON|TUE|WED|THU|FRI|SAT|SUN)";
+    private static final String WINDOW = "(" + DAY + "(-" + DAY + ")? )?\\d{2}:\\d{2} - \\d{2}:\\d{2}";
+
+    /** 영업 시간, 휴무 시간 입력 형식 */
+    public static final String PATTERN = WINDOW + "(, " + WINDOW + ")*";
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + 63) / 64;
+
+    private final String businessHours;
+    private final String breakTime;
+    private final long[] open; // 요일(0 = 월요일)별 영업 분 비트셋
+    private final long[] breaks; // 요일별 휴무 분 비트셋
+
+    private StoreSchedule(String businessHours, String breakTime, long[] open, long[] breaks) {
+        this.businessHours = businessHours;
+        this.breakTime = breakTime;
+        this.open = open;
+        this.breaks = breaks;
+    }
+
+    /** 영업 시간, 휴무 시간 문자열 컴파일(형식에 맞지 않는 구간은 무시) */
+    public static StoreSchedule compile(String businessHours, String breakTime) {
+        long[] open = new long[7 * WORDS_PER_DAY];
+        if (!parseWindows(businessHours, open)) {
+            // 영업 시간이 없으면 하루 종일 영업
+            setRange(open, 0, 7, 0, MINUTES_PER_DAY);
+        }
+
+        long[] breaks = new long[7 * WORDS_PER_DAY];
+        parseWindows(breakTime, breaks);
+
+        return new StoreSchedule(businessHours, breakTime, open, breaks);
+    }
+
+    /** 모든 구간이 유효한지 확인(값이 없으면 유효) */
+    public static boolean isValid(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return true;
+        }
+
+        long[] bits = new long[7 * WORDS_PER_DAY];
+        for (String window : value.split(",")) {
+            if (!parseWindow(window.trim(), bits)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 컴파일에 사용한 문자열과 같은지 확인(캐시 유효성 확인) */
+    public boolean isCompiledFrom(String businessHours, String breakTime) {
+        return Objects.equals(this.businessHours, businessHours) && Objects.equals(this.breakTime, breakTime);
+    }
+
+    /** 영업 시간이면서 휴무 시간이 아닌지 확인 */
+    public boolean isOpen(DayOfWeek dayOfWeek, int minuteOfDay) {
+        return isBusinessHours(dayOfWeek, minuteOfDay) && !isBreakTime(dayOfWeek, minuteOfDay);
+    }
+
+    /** 영업 시간인지 확인 */
+    public boolean isBusinessHours(DayOfWeek dayOfWeek, int minuteOfDay) {
+        return test(open, dayOfWeek.ordinal(), minuteOfDay);
+    }
+
+    /** 휴무 시간인지 확인 */
+    public boolean isBreakTime(DayOfWeek dayOfWeek, int minuteOfDay) {
+        return test(breaks, dayOfWeek.ordinal(), minuteOfDay);
+    }
+
+    /** 요일의 영업 시간 중 휴무 시간을 제외한 분 비트셋(복사본) */
+    public BitSet openMinutes(DayOfWeek dayOfWeek) {
+        int from = dayOfWeek.ordinal() * WORDS_PER_DAY;
+        long[] words = new long[WORDS_PER_DAY];
+        for (int i = 0; i < WORDS_PER_DAY; i++) {
+            words[i] = open[from + i] & ~breaks[from + i];
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /** "HH:mm" 을 분 단위로 변환(형식이 잘못되었거나 범위를 벗어나면 -1) */
+    public static int minuteOfDay(String time) {
+        if (time == null || time.length() != 5 || time.charAt(2) != ':') {
+            return -1;
+        }
+
+        int hour = digits(time, 0);
+        int minute = digits(time, 3);
+        if (hour < 0 || minute < 0 || hour > 23 || minute > 59) {
+            return -1;
+        }
+        return hour * 60 + minute;
+    }
+
+    private static boolean test(long[] bits, int day, int minuteOfDay) {
+        if (minuteOfDay < 0 || minuteOfDay >= MINUTES_PER_DAY) {
+            return false;
+        }
+        int index = day * WORDS_PER_DAY + (minuteOfDay >>> 6);
+        return (bits[index] & (1L << (minuteOfDay & 63))) != 0;
+    }
+
+    /** 구간 문자열을 비트셋에 기록(기록한 구간이 있으면 true) */
+    private static boolean parseWindows(String value, long[] bits) {
+        if (value == null || value.trim().isEmpty()) {
+            return false;
+        }
+
+        boolean parsed = false;
+        for (String window : value.split(",")) {
+            parsed |= parseWindow(window.trim(), bits);
+        }
+        return parsed;
+    }
+
+    /** "[요일[-요일] ]HH:mm - HH:mm" 구간 하나를 비트셋에 기록 */
+    private static boolean parseWindow(String window, long[] bits) {
+        int firstDay = 0;
+        int lastDay = 6;
+
+        int space = window.indexOf(' ');
+        if (space > 0 && Character.isLetter(window.charAt(0))) {
+            String[] days = window.substring(0, space).split("-");
+            firstDay = dayIndex(days[0]);
+            lastDay = days.length > 1 ? dayIndex(days[1]) : firstDay;
+            if (firstDay < 0 || lastDay < 0) {
+                return false;
+            }
+            window = window.substring(space + 1).trim();
+        }
+
+        String[] times = window.split(" - ");
+        if (times.length != 2) {
+            return false;
+        }
+
+        int start = minuteOfDay(times[0].trim());
+        int end = "24:00".equals(times[1].trim()) ? MINUTES_PER_DAY : minuteOfDay(times[1].trim());
+        if (start < 0 || end < 0 || start == end) {
+            return false;
+        }
+
+        // 요일 범위(FRI-MON 처럼 주를 넘어가는 경우 포함)
+        for (int day = firstDay; ; day = (day + 1) % 7) {
+            if (end > start) {
+                setRange(bits, day, day + 1, start, end);
+            } else {
+                // 자정을 넘기는 구간(자정 이후는 다음 요일에 기록)
+                int nextDay = (day + 1) % 7;
+                setRange(bits, day, day + 1, start, MINUTES_PER_DAY);
+                setRange(bits, nextDay, nextDay + 1, 0, end);
+            }
+            if (day == lastDay) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    private static void setRange(long[] bits, int fromDay, int toDay, int fromMinute, int toMinute) {
+        for (int day = fromDay; day < toDay; day++) {
+            for (int minute = fromMinute; minute < toMinute; minute++) {
+                bits[day * WORDS_PER_DAY + (minute >>> 6)] |= 1L << (minute & 63);
+            }
+        }
+    }
+
+    private static int dayIndex(String day) {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (dayOfWeek.name().startsWith(day) && day.length() == 3) {
+                return dayOfWeek.ordinal();
+            }
+        }
+        return -1;
+    }
+
+    private static int digits(String value, int offset) {
+        char tens = value.charAt(offset);
+        char ones = value.charAt(offset + 1);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
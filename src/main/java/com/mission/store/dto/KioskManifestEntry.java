@@ -0,0 +1,17 @@
+package com.mission.store.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 키오스크 매니페스트 예약 항목(예약 코드, 방문 확인 가능 시간, 예약 인원 수)
+ */
+@Getter
+@Builder
+public class KioskManifestEntry {
+
+    private int code; // 예약 코드(0 - 9999)
+    private int fromMinute; // 예약 시간(분)
+    private int toMinute; // 방문 확인 가능 마지막 시간(분, 예약 시간 + ARRIVAL_THRESHOLD_MINUTES)
+    private int numberOfCustomer; // 예약 인원 수
+}
@@ -0,0 +1,15 @@
+package com.mission.store.dto;
+
+/**
+ * 키오스크 방문 확인용 예약 프로젝션(예약 코드, 예약 시간, 예약 인원 수)
+ */
+public interface KioskReservation {
+
+    Long getId();
+
+    String getReservationCode();
+
+    String getReservationTime();
+
+    int getNumberOfCustomer();
+}
@@ -0,0 +1,52 @@
+package com.mission.store.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.mission.store.type.KioskVisitResult;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class KioskVisitUpload {
+
+    @Getter
+    @Builder
+    public static class Request {
+        @NotNull(message = "예약 날짜는 필수 입력 항목입니다.")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+        private LocalDate reservationDate; // 예약 날짜(2023.06.22)
+        @Valid
+        @NotEmpty(message = "방문 확인 목록은 필수 입력 항목입니다.")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 업로드할 수 있습니다.")
+        private List<Visit> visits;
+    }
+
+    @Getter
+    @Builder
+    public static class Visit {
+        @NotNull(message = "예약 코드는 필수 입력 항목입니다.")
+        private String reservationCode; // 예약코드("1189")
+        @NotNull(message = "방문 확인 시간은 필수 입력 항목입니다.")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
+        private LocalDateTime visitedAt; // 키오스크에서 방문 확인한 시간
+    }
+
+    @Getter
+    @Builder
+    public static class Response {
+        private List<Result> results; // 방문 확인별 처리 결과(요청 순서)
+    }
+
+    @Getter
+    @Builder
+    public static class Result {
+        private String reservationCode;
+        private KioskVisitResult result;
+    }
+}
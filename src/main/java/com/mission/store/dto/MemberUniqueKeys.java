@@ -0,0 +1,13 @@
+package com.mission.store.dto;
+
+/**
+ * 회원 중복 확인용 프로젝션(이메일, 전화번호, 닉네임)
+ */
+public interface MemberUniqueKeys {
+
+    String getEmail();
+
+    String getPhone();
+
+    String getNickname();
+}
@@ -0,0 +1,13 @@
+package com.mission.store.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NearbyStore {
+
+    private StoreSummary store;
+    private double distance; // 요청 위치로부터의 거리(미터)
+
+}
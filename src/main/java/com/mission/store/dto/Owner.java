@@ -28,4 +28,12 @@ public class Owner {
                 .memberRole(member.getMemberRole())
                 .build();
     }
+
+    /** 공개 매장 조회용 점주 정보(ID, 닉네임) */
+    public static Owner fromSummary(StoreSummary store) {
+        return Owner.builder()
+                .id(store.getOwnerId())
+                .nickname(store.getOwnerNickname())
+                .build();
+    }
 }
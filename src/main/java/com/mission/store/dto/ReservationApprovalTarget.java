@@ -0,0 +1,28 @@
+package com.mission.store.dto;
+
+import com.mission.store.type.ReservationApprovalStatus;
+import com.mission.store.type.ReservationVisitStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 일괄 승인, 거절 대상 프로젝션(매장 ID와 시간대 해제에 필요한 값만 조회)
+ */
+public interface ReservationApprovalTarget {
+
+    Long getId();
+
+    Long getStoreId();
+
+    LocalDate getReservationDate();
+
+    String getReservationTime();
+
+    int getNumberOfCustomer();
+
+    String getReservationCode();
+
+    ReservationVisitStatus getReservationVisitStatus();
+
+    ReservationApprovalStatus getReservationApprovalStatus();
+}
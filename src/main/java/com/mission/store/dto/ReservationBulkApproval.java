@@ -0,0 +1,39 @@
+package com.mission.store.dto;
+
+import com.mission.store.type.ReservationApprovalResult;
+import com.mission.store.type.ReservationApprovalStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+public class ReservationBulkApproval {
+
+    @Getter
+    @Builder
+    public static class Request {
+        @NotEmpty(message = "예약 아이디는 필수 입력 항목입니다.")
+        @Size(max = 100, message = "한 번에 최대 100건까지 처리할 수 있습니다.")
+        private List<Long> reservationIds;
+        @NotNull(message = "승인 상태는 필수 입력 항목입니다.")
+        private ReservationApprovalStatus status; // 승인(APPROVED) 또는 거절(REJECTED)
+    }
+
+    @Getter
+    @Builder
+    public static class Response {
+        private ReservationApprovalStatus status;
+        private int processedCount; // 승인 또는 거절된 예약 수
+        private List<Result> results; // 예약별 처리 결과(요청 순서)
+    }
+
+    @Getter
+    @Builder
+    public static class Result {
+        private Long id;
+        private ReservationApprovalResult result;
+    }
+}
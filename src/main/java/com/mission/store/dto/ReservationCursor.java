@@ -0,0 +1,53 @@
+package com.mission.store.dto;
+
+import com.mission.store.exception.ReservationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.mission.store.type.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 매장 예약 목록 키셋 페이지네이션 커서
+ * -> 마지막으로 조회한 예약의 (예약 날짜, 예약 시간, ID)를 Base64(URL) 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDate reservationDate;
+    private final String reservationTime;
+    private final long id;
+
+    /** 마지막으로 조회한 예약으로 커서 생성 */
+    public static ReservationCursor of(ReservationSummary reservation) {
+        return new ReservationCursor(reservation.getReservationDate(), reservation.getReservationTime(), reservation.getId());
+    }
+
+    /** 커서 문자열 생성 */
+    public String encode() {
+        String value = reservationDate + DELIMITER + reservationTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 커서 문자열 해석(형식이 잘못된 경우 예외) */
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.split(DELIMITER);
+            if (parts.length != 3) {
+                throw new ReservationException(INVALID_CURSOR);
+            }
+
+            return new ReservationCursor(LocalDate.parse(parts[0]), parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ReservationException(INVALID_CURSOR);
+        }
+    }
+}
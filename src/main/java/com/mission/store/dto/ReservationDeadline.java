@@ -0,0 +1,15 @@
+package com.mission.store.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 노쇼 처리 대상 예약 프로젝션(예약 날짜, 예약 시간)
+ */
+public interface ReservationDeadline {
+
+    Long getId();
+
+    LocalDate getReservationDate();
+
+    String getReservationTime();
+}
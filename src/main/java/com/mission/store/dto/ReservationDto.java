@@ -37,4 +37,21 @@ public class ReservationDto {
                 .reservationApprovalStatus(reservation.getReservationApprovalStatus())
                 .build();
     }
+
+    public static ReservationDto fromSummary(ReservationSummary reservation) {
+        return ReservationDto.builder()
+                .id(reservation.getId())
+                .customer(Customer.builder()
+                        .id(reservation.getCustomerId())
+                        .phone(reservation.getCustomerPhone())
+                        .nickname(reservation.getCustomerNickname())
+                        .build())
+                .reservationDate(reservation.getReservationDate())
+                .reservationTime(reservation.getReservationTime())
+                .reservationMemo(reservation.getReservationMemo())
+                .numberOfCustomer(reservation.getNumberOfCustomer())
+                .reservationVisitStatus(reservation.getReservationVisitStatus())
+                .reservationApprovalStatus(reservation.getReservationApprovalStatus())
+                .build();
+    }
 }
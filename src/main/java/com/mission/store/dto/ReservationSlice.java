@@ -0,0 +1,15 @@
+package com.mission.store.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ReservationSlice {
+
+    private List<ReservationDto> reservations;
+    private String nextCursor; // 다음 페이지 조회 커서(마지막 페이지는 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,13 @@
+package com.mission.store.dto;
+
+/**
+ * 예약 시간대별 사용량 프로젝션(예약 건수, 예약 인원 수)
+ */
+public interface ReservationSlotUsage {
+
+    String getReservationTime();
+
+    Long getBookings();
+
+    Long getGuests();
+}
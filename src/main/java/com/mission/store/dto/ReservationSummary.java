@@ -0,0 +1,31 @@
+package com.mission.store.dto;
+
+import com.mission.store.type.ReservationApprovalStatus;
+import com.mission.store.type.ReservationVisitStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 매장 예약 목록 조회용 프로젝션(매장 Store, 예약 손님 Member 엔티티를 조회하지 않는다.)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReservationSummary {
+
+    private Long id;
+    private Long customerId; // 예약 손님 ID
+    private String customerPhone; // 예약 손님 전화번호
+    private String customerNickname; // 예약 손님 닉네임
+
+    private LocalDate reservationDate; // 예약 시간(2023.06.22)
+    private String reservationTime; // 예약 시간(13:00)
+    private String reservationMemo; // 예약 메모
+    private int numberOfCustomer; // 예약 인원 수
+
+    private ReservationVisitStatus reservationVisitStatus; // 방문 상태
+    private ReservationApprovalStatus reservationApprovalStatus; // 예약 승인 상태
+}
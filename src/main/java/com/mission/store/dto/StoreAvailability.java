@@ -0,0 +1,22 @@
+package com.mission.store.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 매장의 날짜별 예약 가능 시간대
+ */
+@Getter
+@Builder
+public class StoreAvailability {
+
+    private Long storeId;
+    private LocalDate date; // 예약 날짜
+    private int partySize; // 예약 인원 수
+
+    private List<String> slots; // 예약 가능 시간(13:00)
+
+}
@@ -0,0 +1,22 @@
+package com.mission.store.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 지도 클러스터(지오해시 격자별 영업 매장 집계)
+ */
+@Getter
+@Builder
+public class StoreCluster {
+
+    private String geohash; // 격자 지오해시
+    private double lat; // 격자 중심 위도
+    private double lon; // 격자 중심 경도
+
+    private int count; // 영업 매장 수
+    private double averageRating; // 매장 평점 평균
+
+    private StoreSummary representative; // 대표 매장(평점이 가장 높은 매장)
+
+}
@@ -0,0 +1,52 @@
+package com.mission.store.dto;
+
+import com.mission.store.exception.StoreException;
+import com.mission.store.type.StoreSortType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.mission.store.type.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 매장 목록 키셋 페이지네이션 커서
+ * -> 정렬 기준과 마지막으로 조회한 매장의 (평점, ID)를 Base64(URL) 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class StoreCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final StoreSortType sortType;
+    private final double averageRating;
+    private final long id;
+
+    /** 마지막으로 조회한 매장으로 커서 생성 */
+    public static StoreCursor of(StoreSortType sortType, StoreSummary store) {
+        return new StoreCursor(sortType, store.getAverageRating(), store.getId());
+    }
+
+    /** 커서 문자열 생성 */
+    public String encode() {
+        String value = sortType.name() + DELIMITER + averageRating + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 커서 문자열 해석(정렬 기준이 다르거나 형식이 잘못된 경우 예외) */
+    public static StoreCursor decode(String cursor, StoreSortType sortType) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.split(DELIMITER);
+            if (parts.length != 3 || StoreSortType.valueOf(parts[0]) != sortType) {
+                throw new StoreException(INVALID_CURSOR);
+            }
+
+            return new StoreCursor(sortType, Double.parseDouble(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new StoreException(INVALID_CURSOR);
+        }
+    }
+}
@@ -43,4 +43,21 @@ public class StoreDto {
                 .breakTime(store.getBreakTime())
                 .build();
     }
+
+    public static StoreDto fromSummary(StoreSummary store, Owner owner) {
+        return StoreDto.builder()
+                .id(store.getId())
+                .owner(owner)
+                .name(store.getName())
+                .address(store.getAddress())
+                .description(store.getDescription())
+                .storeStatus(store.getStoreStatus())
+                .lat(store.getLat())
+                .lon(store.getLon())
+                .reviewCount(store.getReviewCount())
+                .averageRating(store.getAverageRating())
+                .businessHours(store.getBusinessHours())
+                .breakTime(store.getBreakTime())
+                .build();
+    }
 }
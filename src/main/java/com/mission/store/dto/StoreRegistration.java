@@ -1,10 +1,12 @@
 package com.mission.store.dto;
 
+import com.mission.store.domain.StoreSchedule;
 import lombok.Builder;
 import lombok.Getter;
 
 import javax.validation.constraints.DecimalMax;
 import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
 
@@ -27,12 +29,14 @@ public class StoreRegistration {
         @DecimalMax(value = "180.0", inclusive = true, message = "유효하지 않은 경도 값입니다.")
         private double lon; // 경도
 
-        @Pattern(regexp = "\\d{2}:\\d{2} - \\d{2}:\\d{2}"
-                , message = "유효하지 않은 영업 시간 형식입니다. (09:00 - 18:00)")
+        @Pattern(regexp = StoreSchedule.PATTERN
+                , message = "유효하지 않은 영업 시간 형식입니다. (09:00 - 18:00 또는 MON-FRI 09:00 - 18:00, SAT 10:00 - 14:00)")
         private String businessHours; // 영업 시간(09:00 - 18:00)
-        @Pattern(regexp = "\\d{2}:\\d{2} - \\d{2}:\\d{2}"
-                , message = "유효하지 않은 휴무 시간 형식입니다. (15:00 - 16:00)")
+        @Pattern(regexp = StoreSchedule.PATTERN
+                , message = "유효하지 않은 휴무 시간 형식입니다. (15:00 - 16:00 또는 15:00 - 16:00, SAT 12:00 - 13:00)")
         private String breakTime; // 휴무 시간(15:00 - 16:00)
+        @Min(value = 1, message = "예약 시간대별 최대 인원 수는 1명 이상이어야 합니다.")
+        private Integer slotCapacity; // 예약 시간대별 최대 인원 수(없으면 시간대당 예약 1건)
     }
 
     @Getter
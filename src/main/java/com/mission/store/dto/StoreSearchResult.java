@@ -40,4 +40,20 @@ public class StoreSearchResult {
                 .breakTime(store.getBreakTime())
                 .build();
     }
+
+    public static StoreSearchResult fromSummary(StoreSummary store) {
+        return StoreSearchResult.builder()
+                .id(store.getId())
+                .name(store.getName())
+                .address(store.getAddress())
+                .description(store.getDescription())
+                .storeStatus(store.getStoreStatus())
+                .lat(store.getLat())
+                .lon(store.getLon())
+                .reviewCount(store.getReviewCount())
+                .averageRating(store.getAverageRating())
+                .businessHours(store.getBusinessHours())
+                .breakTime(store.getBreakTime())
+                .build();
+    }
 }
@@ -0,0 +1,29 @@
+package com.mission.store.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 매장 이름 자동완성 결과
+ */
+@Getter
+@Builder
+public class StoreSuggestion {
+
+    private Long id;
+    private String name; // 상점 이름
+    private String address; // 상점 주소
+
+    private Integer reviewCount; // 상점 리뷰 개수
+    private double averageRating; // 상점 리뷰 평점(0.0 - 5.0)
+
+    public static StoreSuggestion fromSummary(StoreSummary store) {
+        return StoreSuggestion.builder()
+                .id(store.getId())
+                .name(store.getName())
+                .address(store.getAddress())
+                .reviewCount(store.getReviewCount())
+                .averageRating(store.getAverageRating())
+                .build();
+    }
+}
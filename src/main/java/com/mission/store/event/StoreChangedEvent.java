@@ -0,0 +1,17 @@
+package com.mission.store.event;
+
+import com.mission.store.dto.StoreSummary;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매장 등록, 영업 상태 변경, 리뷰 정보 변경 이벤트
+ * -> 트랜잭션 커밋 이후 인메모리 매장 인덱스에 반영
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoreChangedEvent {
+
+    private final StoreSummary store; // 변경 후 매장 정보
+
+}
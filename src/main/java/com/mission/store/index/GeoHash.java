@@ -0,0 +1,109 @@
+package com.mission.store.index;
+
+/**
+ * 지오해시(base32) 인코딩, 디코딩
+ * -> 경도, 위도 비트를 번갈아 섞어 5비트씩 문자로 표현하며, 접두사가 같으면 같은 영역에 속한다.
+ */
+public final class GeoHash {
+
+    public static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    public static final int MAX_PRECISION = 12;
+
+    private static final int[] DECODE = new int[128];
+
+    static {
+        java.util.Arrays.fill(DECODE, -1);
+        for (int i = 0; i < BASE32.length(); i++) {
+            DECODE[BASE32.charAt(i)] = i;
+        }
+    }
+
+    private GeoHash() {
+    }
+
+    /** 위도, 경도를 precision 길이의 지오해시로 인코딩 */
+    public static String encode(double lat, double lon, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (lon >= mid) {
+                    index = (index << 1) | 1;
+                    minLon = mid;
+                } else {
+                    index <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /** 지오해시 영역 [minLat, minLon, maxLat, maxLon] */
+    public static double[] bounds(String hash) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+
+        boolean evenBit = true;
+        for (int i = 0; i < hash.length(); i++) {
+            char c = hash.charAt(i);
+            int value = c < DECODE.length ? DECODE[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("invalid geohash: " + hash);
+            }
+
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean set = ((value >> bit) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (set) {
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{minLat, minLon, maxLat, maxLon};
+    }
+
+    /** precision 길이 지오해시 한 칸의 위도 크기(도) */
+    public static double latitudeSpan(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    /** precision 길이 지오해시 한 칸의 경도 크기(도) */
+    public static double longitudeSpan(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+}
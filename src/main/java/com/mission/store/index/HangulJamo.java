@@ -0,0 +1,81 @@
+package com.mission.store.index;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 한글 자모 분해, 초성 추출
+ * -> 완성형 음절과 겹자모(ㄳ, ㅘ 등)를 기본 자모(한글 호환 자모)로 분해하여
+ *    입력 중인 글자("강ㄴ", "가나" 입력 중의 "간")도 접두사로 일치하도록 한다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 겹자모(한글 호환 자모) -> 기본 자모
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_DECOMPOSED = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+
+    private HangulJamo() {
+    }
+
+    /** 정규화(NFC 결합, 소문자, 공백 제거) */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    /** 자모 분해("강남" -> "ㄱㅏㅇㄴㅏㅁ"), 한글이 아닌 문자는 그대로 유지 */
+    public static String decompose(String value) {
+        StringBuilder builder = new StringBuilder(value.length() * 3);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)))
+                        .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+                continue;
+            }
+
+            int compound = COMPOUND.indexOf(c);
+            builder.append(compound >= 0 ? COMPOUND_DECOMPOSED[compound] : String.valueOf(c));
+        }
+        return builder.toString();
+    }
+
+    /** 초성 추출("강남" -> "ㄱㄴ"), 한글이 아닌 문자는 그대로 유지 */
+    public static String chosung(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            builder.append(isSyllable(c) ? CHO.charAt((c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)) : c);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,66 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.KioskManifestEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 키오스크 오프라인 방문 확인용 바이너리 매니페스트(빅 엔디언) 생성 및 서명
+ * -> 헤더: magic("KMF1", 4) + 매장 ID(8) + 예약 날짜(epoch day, 4) + 발급 시간(epoch second, 8) + 예약 수(4)
+ * -> 예약(8바이트씩, 예약 코드순): 예약 코드(2) + 예약 시간(분, 2) + 방문 확인 가능 마지막 시간(분, 2) + 예약 인원 수(2)
+ * -> 서명: 앞의 모든 바이트의 HMAC-SHA256(32)
+ */
+@Component
+public class KioskManifestSigner {
+
+    public static final int MAGIC = 0x4B4D4631; // "KMF1"
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int HEADER_BYTES = 4 + 8 + 4 + 8 + 4;
+    private static final int ENTRY_BYTES = 2 + 2 + 2 + 2;
+    private static final int SIGNATURE_BYTES = 32;
+
+    private final SecretKeySpec key;
+
+    public KioskManifestSigner(@Value("${store.kiosk.manifest-secret}") String secret) {
+        this.key = new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM);
+    }
+
+    /** 매니페스트 생성 */
+    public byte[] sign(Long storeId, LocalDate date, long issuedAtEpochSecond, List<KioskManifestEntry> entries) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + ENTRY_BYTES * entries.size() + SIGNATURE_BYTES);
+        buffer.putInt(MAGIC)
+                .putLong(storeId)
+                .putInt((int) date.toEpochDay())
+                .putLong(issuedAtEpochSecond)
+                .putInt(entries.size());
+        for (KioskManifestEntry entry : entries) {
+            buffer.putShort((short) entry.getCode())
+                    .putShort((short) entry.getFromMinute())
+                    .putShort((short) entry.getToMinute())
+                    .putShort((short) Math.min(entry.getNumberOfCustomer(), Short.MAX_VALUE));
+        }
+
+        buffer.put(hmac(buffer.array(), buffer.position()));
+        return buffer.array();
+    }
+
+    private byte[] hmac(byte[] bytes, int length) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(bytes, 0, length);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.mission.store.index;
+
+import com.mission.store.domain.Reservation;
+import com.mission.store.domain.StoreSchedule;
+import com.mission.store.dto.KioskManifestEntry;
+import com.mission.store.dto.KioskReservation;
+import com.mission.store.repository.ReservationRepository;
+import com.mission.store.type.KioskVisitResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 키오스크 방문 확인용 매장별 오늘 승인된 예약 인덱스(예약 코드 -> 예약)
+ * -> 매장의 첫 방문 확인 시 오늘 승인 후 방문하지 않은 예약을 한 번 적재하고,
+ *    이후 예약 승인, 취소, 방문 확인은 커밋 이후 반영
+ * -> 방문 확인은 인덱스에서 바로 응답하고, 방문 상태는 모아서 flush-interval-ms 마다 조건부 UPDATE 로 반영
+ *    (같은 예약의 방문 확인이 다시 들어와도 ALREADY_VISITED 로 응답하므로 재전송해도 안전)
+ * -> 반영 전 방문 확인은 노쇼 처리에서 제외되도록 반영될 때까지 isPending 으로 확인 가능
+ * -> 지난 날짜는 주기적으로 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KioskReservationIndex {
+
+    private final ReservationRepository reservationRepository;
+
+    private final Map<StoreDay, StoreKiosk> kiosks = new ConcurrentHashMap<>();
+    private final Queue<Long> pendingVisits = new ConcurrentLinkedQueue<>();
+    private final Set<Long> unflushedVisits = ConcurrentHashMap.newKeySet(); // 방문 확인 후 DB 반영 전 예약
+    private final Object flushLock = new Object();
+
+    /**
+     * 예약 코드로 방문 확인(예약 시간 ARRIVAL_THRESHOLD_MINUTES 분 후까지 가능)
+     * -> 방문 상태는 다음 반영 주기에 DB 에 저장
+     */
+    public KioskVisitResult confirmVisit(Long storeId, LocalDate date, int code, LocalDateTime visitedAt) {
+        StoreKiosk kiosk = load(new StoreDay(storeId, date));
+        return kiosk.confirm(code, minuteOf(date, visitedAt), this::enqueueVisit);
+    }
+
+    /** 방문 확인 후 아직 DB 에 반영되지 않은 예약인지 확인(반영 실패로 다시 시도 중인 예약 포함) */
+    public boolean isPending(Long reservationId) {
+        return unflushedVisits.contains(reservationId);
+    }
+
+    /** 매장-날짜의 승인된 예약 목록(예약 코드순, 키오스크 매니페스트용) */
+    public List<KioskManifestEntry> entries(Long storeId, LocalDate date) {
+        return load(new StoreDay(storeId, date)).entries();
+    }
+
+    /** 승인된 예약 추가(커밋 이후, 적재된 매장-날짜만) */
+    public void putAfterCommit(Long storeId, LocalDate date, Long reservationId, String reservationCode,
+                               String reservationTime, int numberOfCustomer) {
+        afterCommit(() -> {
+            StoreKiosk kiosk = kiosks.get(new StoreDay(storeId, date));
+            if (kiosk != null) {
+                kiosk.put(reservationId, ReservationCodeAllocator.parse(reservationCode)
+                        , StoreSchedule.minuteOfDay(reservationTime), numberOfCustomer);
+            }
+        });
+    }
+
+    /** 취소 또는 방문 확인된 예약 제거(커밋 이후) */
+    public void removeAfterCommit(Long storeId, LocalDate date, Long reservationId, String reservationCode) {
+        afterCommit(() -> {
+            StoreKiosk kiosk = kiosks.get(new StoreDay(storeId, date));
+            if (kiosk != null) {
+                kiosk.remove(reservationId, ReservationCodeAllocator.parse(reservationCode));
+            }
+        });
+    }
+
+    /** 방문 확인된 예약 방문 상태 일괄 반영(실패하면 다음 주기에 다시 시도, 종료 시 남은 방문 확인 반영) */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${store.kiosk.flush-interval-ms:1000}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<Long> reservationIds = new ArrayList<>();
+            for (Long reservationId = pendingVisits.poll(); reservationId != null; reservationId = pendingVisits.poll()) {
+                reservationIds.add(reservationId);
+            }
+            if (reservationIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                int updated = reservationRepository.markVisitedByIdIn(reservationIds, LocalDateTime.now());
+                reservationIds.forEach(unflushedVisits::remove);
+
+                // 반영 전에 취소, 노쇼 처리된 예약은 키오스크에 방문으로 응답했지만 DB 에 반영되지 않는다.
+                if (updated < reservationIds.size()) {
+                    log.warn("kiosk visits not applied. count: {}, updated: {}, reservationIds: {}"
+                            , reservationIds.size(), updated, reservationIds);
+                } else {
+                    log.debug("kiosk visits flushed. count: {}, updated: {}", reservationIds.size(), updated);
+                }
+            } catch (RuntimeException e) {
+                pendingVisits.addAll(reservationIds);
+                log.error("kiosk visit flush failed. count: {}", reservationIds.size(), e);
+            }
+        }
+    }
+
+    /** 지난 날짜 제거 */
+    @Scheduled(fixedDelayString = "${store.reservation-slot.evict-interval-ms:3600000}")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        kiosks.keySet().removeIf(storeDay -> storeDay.date.isBefore(today));
+    }
+
+    /** 방문 확인된 예약을 다음 반영 주기에 저장 */
+    private void enqueueVisit(Long reservationId) {
+        unflushedVisits.add(reservationId);
+        pendingVisits.add(reservationId);
+    }
+
+    /** 매장-날짜 예약 적재(처음 한 번만 DB 조회) */
+    private StoreKiosk load(StoreDay storeDay) {
+        StoreKiosk kiosk = kiosks.computeIfAbsent(storeDay, key -> new StoreKiosk());
+        synchronized (kiosk) {
+            if (!kiosk.loaded) {
+                for (KioskReservation reservation : reservationRepository.findKioskReservations(storeDay.storeId, storeDay.date)) {
+                    kiosk.put(reservation.getId(), ReservationCodeAllocator.parse(reservation.getReservationCode())
+                            , StoreSchedule.minuteOfDay(reservation.getReservationTime()), reservation.getNumberOfCustomer());
+                }
+                kiosk.loaded = true;
+            }
+        }
+        return kiosk;
+    }
+
+    /** 예약 날짜 기준 방문 시간(분), 예약 날짜 이전이면 0, 이후면 하루 이상 */
+    private static int minuteOf(LocalDate date, LocalDateTime visitedAt) {
+        if (visitedAt.toLocalDate().isBefore(date)) {
+            return 0;
+        }
+        if (visitedAt.toLocalDate().isAfter(date)) {
+            return 24 * 60 * 2;
+        }
+
+        LocalTime time = visitedAt.toLocalTime();
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /** 매장의 하루 예약(예약 코드 -> 예약), 적재 전 변경은 적재 시 DB 에서 반영된다. */
+    private static final class StoreKiosk {
+
+        private final Map<Integer, Entry> byCode = new TreeMap<>();
+        private boolean loaded;
+
+        private synchronized void put(Long reservationId, int code, int minuteOfDay, int numberOfCustomer) {
+            if (code >= 0 && minuteOfDay >= 0) {
+                byCode.put(code, new Entry(reservationId, minuteOfDay, numberOfCustomer));
+            }
+        }
+
+        private synchronized void remove(Long reservationId, int code) {
+            Entry entry = byCode.get(code);
+            if (entry != null && entry.reservationId.equals(reservationId)) {
+                byCode.remove(code);
+            }
+        }
+
+        private synchronized KioskVisitResult confirm(int code, int visitedMinute, Consumer<Long> onVisited) {
+            Entry entry = byCode.get(code);
+            if (entry == null) {
+                return KioskVisitResult.NOT_FOUND;
+            }
+            if (entry.visited) {
+                return KioskVisitResult.ALREADY_VISITED;
+            }
+            if (visitedMinute > entry.minuteOfDay + Reservation.ARRIVAL_THRESHOLD_MINUTES) {
+                return KioskVisitResult.EXPIRED;
+            }
+
+            entry.visited = true;
+            onVisited.accept(entry.reservationId);
+            return KioskVisitResult.VISITED;
+        }
+
+        private synchronized List<KioskManifestEntry> entries() {
+            List<KioskManifestEntry> entries = new ArrayList<>(byCode.size());
+            for (Map.Entry<Integer, Entry> entry : byCode.entrySet()) {
+                if (!entry.getValue().visited) {
+                    entries.add(KioskManifestEntry.builder()
+                            .code(entry.getKey())
+                            .fromMinute(entry.getValue().minuteOfDay)
+                            .toMinute(entry.getValue().minuteOfDay + Reservation.ARRIVAL_THRESHOLD_MINUTES)
+                            .numberOfCustomer(entry.getValue().numberOfCustomer)
+                            .build());
+                }
+            }
+            return entries;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Long reservationId;
+        private final int minuteOfDay;
+        private final int numberOfCustomer;
+        private boolean visited;
+
+        private Entry(Long reservationId, int minuteOfDay, int numberOfCustomer) {
+            this.reservationId = reservationId;
+            this.minuteOfDay = minuteOfDay;
+            this.numberOfCustomer = numberOfCustomer;
+        }
+    }
+}
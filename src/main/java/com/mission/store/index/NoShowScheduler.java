@@ -0,0 +1,128 @@
+package com.mission.store.index;
+
+import com.mission.store.domain.Reservation;
+import com.mission.store.domain.StoreSchedule;
+import com.mission.store.dto.ReservationDeadline;
+import com.mission.store.repository.ReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 승인된 예약의 노쇼 처리
+ * -> 승인된 예약을 (예약 날짜 + 예약 시간 + ARRIVAL_THRESHOLD_MINUTES + 1분) 만료 시각으로 타이밍 휠에 등록
+ *    (방문 확인은 ARRIVAL_THRESHOLD_MINUTES 분이 되는 1분 동안 가능하므로 그 다음 분부터 노쇼)
+ * -> 주기마다 휠을 현재 시각까지 진행하고, 만료된 예약을 batch-size 단위 조건부 UPDATE 로 노쇼 처리
+ *    (방문 확인, 취소된 예약은 UPDATE 조건에서 제외되므로 휠에서 따로 제거하지 않는다.)
+ * -> 키오스크에서 방문 확인 후 DB 반영 전인 예약은 노쇼 처리하지 않고 다음 주기에 다시 확인
+ * -> 시작 시 승인 후 방문하지 않은 예약을 한 번 스트리밍하여 휠을 재구성(주기마다 테이블을 조회하지 않는다.)
+ */
+@Slf4j
+@Component
+public class NoShowScheduler {
+
+    private final ReservationRepository reservationRepository;
+    private final KioskReservationIndex kioskReservationIndex;
+    private final int batchSize;
+
+    private final TimingWheel<Long> wheel = new TimingWheel<>(epochMinute(LocalDateTime.now()));
+
+    public NoShowScheduler(ReservationRepository reservationRepository,
+                           KioskReservationIndex kioskReservationIndex,
+                           @Value("${store.no-show.batch-size:500}") int batchSize) {
+        this.reservationRepository = reservationRepository;
+        this.kioskReservationIndex = kioskReservationIndex;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /** 시작 시 승인 후 방문하지 않은 예약 스트리밍으로 휠 재구성 */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long count = 0;
+        try (Stream<ReservationDeadline> reservations = reservationRepository.streamApprovedNotVisited()) {
+            for (ReservationDeadline reservation : (Iterable<ReservationDeadline>) reservations::iterator) {
+                register(reservation.getId(), reservation.getReservationDate(), reservation.getReservationTime());
+                count++;
+            }
+        }
+        log.info("no-show timing wheel rebuilt. count: {}", count);
+    }
+
+    /** 승인된 예약 등록(현재 트랜잭션이 커밋된 이후, 트랜잭션 밖이면 즉시 등록) */
+    public void registerAfterCommit(Long reservationId, LocalDate reservationDate, String reservationTime) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(reservationId, reservationDate, reservationTime);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(reservationId, reservationDate, reservationTime);
+            }
+        });
+    }
+
+    /** 만료된 예약 노쇼 처리 */
+    @Scheduled(fixedDelayString = "${store.no-show.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = epochMinute(LocalDateTime.now());
+        List<Long> expired = wheel.advance(now);
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        // 1. 키오스크에서 방문 확인 후 아직 반영되지 않은 예약을 먼저 반영
+        kioskReservationIndex.flush();
+
+        // 2. 반영에 실패해 아직 남아 있는 방문 확인은 노쇼 처리하지 않고 다음 주기에 다시 확인
+        List<Long> noShows = new ArrayList<>(expired.size());
+        int deferred = 0;
+        for (Long reservationId : expired) {
+            if (kioskReservationIndex.isPending(reservationId)) {
+                wheel.add(reservationId, now + 1);
+                deferred++;
+            } else {
+                noShows.add(reservationId);
+            }
+        }
+
+        // 3. 노쇼 처리
+        int updated = 0;
+        for (int from = 0; from < noShows.size(); from += batchSize) {
+            List<Long> batch = noShows.subList(from, Math.min(from + batchSize, noShows.size()));
+            updated += reservationRepository.markNoShowByIdIn(batch, LocalDateTime.now());
+        }
+        log.info("no-show reservations swept. expired: {}, deferred: {}, updated: {}", expired.size(), deferred, updated);
+    }
+
+    private void register(Long reservationId, LocalDate reservationDate, String reservationTime) {
+        int minuteOfDay = StoreSchedule.minuteOfDay(reservationTime);
+        if (minuteOfDay < 0) {
+            return;
+        }
+
+        LocalDateTime deadline = reservationDate.atStartOfDay()
+                .plusMinutes(minuteOfDay + Reservation.ARRIVAL_THRESHOLD_MINUTES + 1);
+        wheel.add(reservationId, epochMinute(deadline));
+    }
+
+    /** 서버 시간대의 현지 시각을 분 단위 정수로 변환(만료 시각과 현재 시각을 같은 기준으로 비교) */
+    private static long epochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
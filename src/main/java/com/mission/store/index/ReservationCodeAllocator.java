@@ -0,0 +1,206 @@
+package com.mission.store.index;
+
+import com.mission.store.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mission.store.index.ReservationSlotIndex.ACTIVE_APPROVAL_STATUSES;
+import static com.mission.store.index.ReservationSlotIndex.ACTIVE_VISIT_STATUSES;
+
+/**
+ * 매장, 날짜별 예약 코드(0000 - 9999) 할당
+ * -> 매장-날짜마다 10,000 비트 사용 비트맵(long 157개)으로 유효한 예약(취소, 거절 제외)끼리 코드가 겹치지 않게 할당
+ * -> 매장-날짜를 처음 할당할 때 DB 에서 사용 중인 코드를 적재
+ * -> 임의의 위치(ThreadLocalRandom)에서 시작해 비어 있는 첫 비트를 사용하며, 매장-날짜 단위 스트라이프 락 안에서 처리
+ * -> 예약 트랜잭션이 롤백되면 코드 반환, 예약 취소/거절은 커밋 이후 반환, 지난 날짜는 주기적으로 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCodeAllocator {
+
+    public static final int CODE_SPACE = 10_000;
+
+    private static final int WORDS = (CODE_SPACE + 63) / 64;
+    private static final int STRIPES = 256;
+
+    private final ReservationRepository reservationRepository;
+
+    private final Map<StoreDay, long[]> days = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = createLocks();
+
+    /** 예약 코드 할당(사용 가능한 코드가 없으면 -1) */
+    public int allocate(Long storeId, LocalDate date) {
+        StoreDay storeDay = new StoreDay(storeId, date);
+        ReentrantLock lock = lockOf(storeDay);
+        lock.lock();
+        try {
+            long[] used = load(storeDay);
+            int code = nextClearBit(used, ThreadLocalRandom.current().nextInt(CODE_SPACE));
+            if (code >= 0) {
+                used[code >>> 6] |= 1L << (code & 63);
+            }
+            return code;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 예약 코드 반환 */
+    public void release(Long storeId, LocalDate date, int code) {
+        if (code < 0 || code >= CODE_SPACE) {
+            return;
+        }
+
+        StoreDay storeDay = new StoreDay(storeId, date);
+        ReentrantLock lock = lockOf(storeDay);
+        lock.lock();
+        try {
+            // 적재되지 않은 날짜는 다음 할당 시 DB 에서 다시 적재
+            long[] used = days.get(storeDay);
+            if (used != null) {
+                used[code >>> 6] &= ~(1L << (code & 63));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 현재 트랜잭션이 커밋되지 않으면 코드 반환 */
+    public void releaseOnRollback(Long storeId, LocalDate date, int code) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(storeId, date, code);
+                }
+            }
+        });
+    }
+
+    /** 현재 트랜잭션이 커밋되면 코드 반환(트랜잭션 밖이면 즉시 반환) */
+    public void releaseAfterCommit(Long storeId, LocalDate date, int code) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(storeId, date, code);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(storeId, date, code);
+            }
+        });
+    }
+
+    /** 예약 코드 문자열("0042")을 숫자로 변환(형식이 잘못되었으면 -1) */
+    public static int parse(String reservationCode) {
+        if (reservationCode == null || reservationCode.length() != 4) {
+            return -1;
+        }
+
+        int code = 0;
+        for (int i = 0; i < reservationCode.length(); i++) {
+            char c = reservationCode.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            code = code * 10 + (c - '0');
+        }
+        return code;
+    }
+
+    /** 지난 날짜 제거 */
+    @Scheduled(fixedDelayString = "${store.reservation-slot.evict-interval-ms:3600000}")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        int evicted = 0;
+        for (StoreDay storeDay : new ArrayList<>(days.keySet())) {
+            if (!storeDay.date.isBefore(today)) {
+                continue;
+            }
+
+            ReentrantLock lock = lockOf(storeDay);
+            lock.lock();
+            try {
+                days.remove(storeDay);
+                evicted++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        if (evicted > 0) {
+            log.info("past reservation code days evicted. count: {}", evicted);
+        }
+    }
+
+    /** 매장-날짜 사용 코드 적재(락 안에서 호출) */
+    private long[] load(StoreDay storeDay) {
+        long[] used = days.get(storeDay);
+        if (used != null) {
+            return used;
+        }
+
+        used = new long[WORDS];
+        for (String reservationCode : reservationRepository.findReservationCodes(
+                storeDay.storeId, storeDay.date, ACTIVE_VISIT_STATUSES, ACTIVE_APPROVAL_STATUSES)) {
+            int code = parse(reservationCode);
+            if (code >= 0) {
+                used[code >>> 6] |= 1L << (code & 63);
+            }
+        }
+
+        days.put(storeDay, used);
+        return used;
+    }
+
+    /** from 부터(끝에 닿으면 처음부터) 비어 있는 첫 비트(없으면 -1) */
+    static int nextClearBit(long[] used, int from) {
+        int code = nextClearBit(used, from, CODE_SPACE);
+        return code >= 0 ? code : nextClearBit(used, 0, from);
+    }
+
+    /** [from, to) 범위에서 비어 있는 첫 비트(없으면 -1) */
+    private static int nextClearBit(long[] used, int from, int to) {
+        int index = from >>> 6;
+        long word = ~used[index] & (-1L << (from & 63));
+        while (true) {
+            if (word != 0) {
+                int bit = (index << 6) + Long.numberOfTrailingZeros(word);
+                return bit < to ? bit : -1;
+            }
+            if (++index >= WORDS || (index << 6) >= to) {
+                return -1;
+            }
+            word = ~used[index];
+        }
+    }
+
+    private ReentrantLock lockOf(StoreDay storeDay) {
+        return locks[(storeDay.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
@@ -0,0 +1,310 @@
+package com.mission.store.index;
+
+import com.mission.store.domain.StoreSchedule;
+import com.mission.store.dto.ReservationSlotUsage;
+import com.mission.store.repository.ReservationRepository;
+import com.mission.store.type.ReservationApprovalStatus;
+import com.mission.store.type.ReservationVisitStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매장, 날짜별 예약 시간대 사용량(예약 건수, 예약 인원 수) 인메모리 인덱스
+ * -> 매장-날짜를 처음 조회할 때 DB 에서 유효한 예약(취소, 거절 제외)을 집계하여 적재
+ * -> 매장-날짜 단위 스트라이프 락 안에서 확인과 점유를 한 번에 처리(check-and-reserve)
+ * -> 커밋 전 점유는 적재된 사용량과 따로 보관하여 매장-날짜가 제거, 재적재되어도 유지
+ *    (커밋되면 적재된 사용량으로 옮기고, 롤백되면 해제)
+ * -> 예약 취소/거절은 커밋 이후 해제
+ * -> 지난 날짜는 주기적으로 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotIndex {
+
+    public static final Set<ReservationVisitStatus> ACTIVE_VISIT_STATUSES = Collections.unmodifiableSet(
+            EnumSet.of(ReservationVisitStatus.NOT_VISITED, ReservationVisitStatus.VISITED_WITHIN_RESERVATION_TIME));
+    public static final Set<ReservationApprovalStatus> ACTIVE_APPROVAL_STATUSES = Collections.unmodifiableSet(
+            EnumSet.of(ReservationApprovalStatus.PENDING, ReservationApprovalStatus.APPROVED));
+
+    private static final int STRIPES = 256;
+
+    private final ReservationRepository reservationRepository;
+
+    private final Map<StoreDay, DaySlots> days = new ConcurrentHashMap<>();
+    private final Map<StoreDay, DaySlots> claims = new ConcurrentHashMap<>(); // 커밋 전 점유
+    private final ReentrantLock[] locks = createLocks();
+
+    /**
+     * 예약 시간대 점유 시도(적재된 사용량 + 커밋 전 점유 기준)
+     * -> capacity 가 없으면 시간대당 예약 1건, 있으면 시간대 예약 인원 합계가 capacity 이하
+     * -> 트랜잭션 안이면 커밋 전 점유로 보관하고 트랜잭션 완료 시 확정 또는 해제, 트랜잭션 밖이면 즉시 확정
+     */
+    public boolean tryReserve(Long storeId, LocalDate date, int minuteOfDay, int partySize, Integer capacity) {
+        StoreDay storeDay = new StoreDay(storeId, date);
+        ReentrantLock lock = lockOf(storeDay);
+        DaySlots loaded;
+        lock.lock();
+        try {
+            loaded = load(storeDay);
+            int[] usage = usageOf(storeDay, loaded, minuteOfDay);
+            boolean available = capacity == null
+                    ? usage[0] == 0
+                    : usage[1] + partySize <= capacity;
+            if (!available) {
+                return false;
+            }
+
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                loaded.reserve(minuteOfDay, partySize);
+                return true;
+            }
+            claims.computeIfAbsent(storeDay, key -> new DaySlots()).reserve(minuteOfDay, partySize);
+        } finally {
+            lock.unlock();
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                completeClaim(storeDay, loaded, minuteOfDay, partySize, status == STATUS_COMMITTED);
+            }
+        });
+        return true;
+    }
+
+    /** 인원 수 partySize 로 예약할 수 없는 시간대(분) 비트셋 */
+    public BitSet unavailableMinutes(Long storeId, LocalDate date, int partySize, Integer capacity) {
+        StoreDay storeDay = new StoreDay(storeId, date);
+        ReentrantLock lock = lockOf(storeDay);
+        lock.lock();
+        try {
+            DaySlots loaded = load(storeDay);
+            Set<Integer> minutes = new HashSet<>(loaded.slots.keySet());
+            DaySlots claimed = claims.get(storeDay);
+            if (claimed != null) {
+                minutes.addAll(claimed.slots.keySet());
+            }
+
+            BitSet unavailable = new BitSet(24 * 60);
+            for (Integer minuteOfDay : minutes) {
+                int[] usage = usageOf(storeDay, loaded, minuteOfDay);
+                boolean available = capacity == null
+                        ? usage[0] == 0
+                        : usage[1] + partySize <= capacity;
+                if (!available) {
+                    unavailable.set(minuteOfDay);
+                }
+            }
+            return unavailable;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 예약 시간대 점유 해제 */
+    public void release(Long storeId, LocalDate date, int minuteOfDay, int partySize) {
+        StoreDay storeDay = new StoreDay(storeId, date);
+        ReentrantLock lock = lockOf(storeDay);
+        lock.lock();
+        try {
+            // 적재되지 않은 날짜는 다음 조회 시 DB 에서 다시 집계
+            DaySlots daySlots = days.get(storeDay);
+            if (daySlots != null) {
+                daySlots.release(minuteOfDay, partySize);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 현재 트랜잭션이 커밋되면 점유 해제(트랜잭션 밖이면 즉시 해제) */
+    public void releaseAfterCommit(Long storeId, LocalDate date, int minuteOfDay, int partySize) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(storeId, date, minuteOfDay, partySize);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(storeId, date, minuteOfDay, partySize);
+            }
+        });
+    }
+
+    /** 현재 트랜잭션이 커밋되면 매장-날짜 사용량 제거(다음 조회 시 DB 에서 다시 집계) */
+    public void evictAfterCommit(Long storeId, LocalDate date) {
+        StoreDay storeDay = new StoreDay(storeId, date);
+        Runnable evict = () -> {
+            ReentrantLock lock = lockOf(storeDay);
+            lock.lock();
+            try {
+                days.remove(storeDay);
+            } finally {
+                lock.unlock();
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    /** 시간대를 점유하는 예약 상태인지 확인(취소, 거절 제외) */
+    public static boolean occupiesSlot(ReservationVisitStatus visitStatus, ReservationApprovalStatus approvalStatus) {
+        return ACTIVE_VISIT_STATUSES.contains(visitStatus) && ACTIVE_APPROVAL_STATUSES.contains(approvalStatus);
+    }
+
+    /** 지난 날짜 제거 */
+    @Scheduled(fixedDelayString = "${store.reservation-slot.evict-interval-ms:3600000}")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        int evicted = 0;
+        for (StoreDay storeDay : new ArrayList<>(days.keySet())) {
+            if (!storeDay.date.isBefore(today)) {
+                continue;
+            }
+
+            ReentrantLock lock = lockOf(storeDay);
+            lock.lock();
+            try {
+                days.remove(storeDay);
+                evicted++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        if (evicted > 0) {
+            log.info("past reservation slot days evicted. count: {}", evicted);
+        }
+    }
+
+    /**
+     * 커밋 전 점유 확정 또는 해제
+     * -> 점유 시 적재되어 있던 사용량이 그대로 남아 있으면 커밋 전 DB 를 집계한 것이므로 점유를 더하고,
+     *    그 사이 제거, 재적재되었다면 집계에 포함되었는지 알 수 없으므로 제거하여 다음 조회 시 다시 집계
+     */
+    private void completeClaim(StoreDay storeDay, DaySlots claimedOn, int minuteOfDay, int partySize, boolean committed) {
+        ReentrantLock lock = lockOf(storeDay);
+        lock.lock();
+        try {
+            DaySlots claimed = claims.get(storeDay);
+            if (claimed != null) {
+                claimed.release(minuteOfDay, partySize);
+                if (claimed.slots.isEmpty()) {
+                    claims.remove(storeDay);
+                }
+            }
+
+            if (!committed) {
+                return;
+            }
+
+            DaySlots loaded = days.get(storeDay);
+            if (loaded == claimedOn) {
+                loaded.reserve(minuteOfDay, partySize);
+            } else if (loaded != null) {
+                days.remove(storeDay);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 적재된 사용량과 커밋 전 점유를 더한 시간대 사용량(락 안에서 호출) */
+    private int[] usageOf(StoreDay storeDay, DaySlots loaded, int minuteOfDay) {
+        int[] usage = loaded.slots.getOrDefault(minuteOfDay, new int[2]).clone();
+        DaySlots claimed = claims.get(storeDay);
+        if (claimed != null) {
+            int[] claimedUsage = claimed.slots.get(minuteOfDay);
+            if (claimedUsage != null) {
+                usage[0] += claimedUsage[0];
+                usage[1] += claimedUsage[1];
+            }
+        }
+        return usage;
+    }
+
+    /** 매장-날짜 사용량 적재(락 안에서 호출) */
+    private DaySlots load(StoreDay storeDay) {
+        DaySlots daySlots = days.get(storeDay);
+        if (daySlots != null) {
+            return daySlots;
+        }
+
+        daySlots = new DaySlots();
+        List<ReservationSlotUsage> usages = reservationRepository.findSlotUsages(
+                storeDay.storeId, storeDay.date, ACTIVE_VISIT_STATUSES, ACTIVE_APPROVAL_STATUSES);
+        for (ReservationSlotUsage usage : usages) {
+            int minuteOfDay = StoreSchedule.minuteOfDay(usage.getReservationTime());
+            if (minuteOfDay >= 0) {
+                int[] slot = daySlots.usage(minuteOfDay);
+                slot[0] += usage.getBookings().intValue();
+                slot[1] += usage.getGuests() == null ? 0 : usage.getGuests().intValue();
+            }
+        }
+
+        days.put(storeDay, daySlots);
+        return daySlots;
+    }
+
+    private ReentrantLock lockOf(StoreDay storeDay) {
+        return locks[(storeDay.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    /** 하루의 시간대별 사용량(분 -> [예약 건수, 예약 인원 수]), 스트라이프 락 안에서만 접근 */
+    private static final class DaySlots {
+
+        private final Map<Integer, int[]> slots = new HashMap<>();
+
+        private int[] usage(int minuteOfDay) {
+            return slots.computeIfAbsent(minuteOfDay, key -> new int[2]);
+        }
+
+        private void reserve(int minuteOfDay, int partySize) {
+            int[] usage = usage(minuteOfDay);
+            usage[0]++;
+            usage[1] += partySize;
+        }
+
+        private void release(int minuteOfDay, int partySize) {
+            int[] usage = slots.get(minuteOfDay);
+            if (usage == null) {
+                return;
+            }
+
+            usage[0] = Math.max(usage[0] - 1, 0);
+            usage[1] = Math.max(usage[1] - partySize, 0);
+            if (usage[0] == 0) {
+                slots.remove(minuteOfDay);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.type.StoreStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 영업 매장 이름 자동완성용 트라이
+ * -> 매장 이름 전체와 단어 시작 위치부터의 이름을 자모 분해 키, 초성 키로 색인
+ *    ("스타벅스 강남점" -> "ㅅㅡㅌㅏㅂㅓㄱㅅㅡㄱㅏㅇㄴㅏㅁㅈㅓㅁ", "ㅅㅌㅂㅅㄱㄴㅈ", "ㄱㅏㅇㄴㅏㅁㅈㅓㅁ", "ㄱㄴㅈ")
+ * -> 각 노드에 순위(평점 > 리뷰 수 > 등록순) 상위 topK 개의 매장 ID를 미리 저장하므로
+ *    조회는 검색어 길이만큼 내려간 노드의 목록을 그대로 반환
+ * -> 트라이는 불변이며, 매장 변경 시 rebuild-delay-ms 간격으로 모아서 새로 만든 뒤 교체
+ */
+@Slf4j
+@Component
+public class StoreAutocompleteIndex implements StoreIndex {
+
+    private static final Comparator<StoreSummary> RANK_ORDER =
+            Comparator.comparingDouble(StoreSummary::getAverageRating).reversed()
+                    .thenComparing(store -> store.getReviewCount() == null ? 0 : store.getReviewCount(),
+                            Comparator.reverseOrder())
+                    .thenComparing(StoreSummary::getId);
+
+    private final int topK;
+
+    private final Map<Long, StoreSummary> stores = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Trie trie = Trie.build(Collections.emptyList(), 1);
+
+    public StoreAutocompleteIndex(@Value("${store.autocomplete.top-k:10}") int topK) {
+        this.topK = Math.max(topK, 1);
+    }
+
+    @Override
+    public void clear() {
+        stores.clear();
+    }
+
+    @Override
+    public void put(StoreSummary store) {
+        if (store.getStoreStatus() == StoreStatus.OPEN) {
+            stores.put(store.getId(), store);
+        } else {
+            stores.remove(store.getId());
+        }
+        dirty.set(true);
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        if (stores.remove(storeId) != null) {
+            dirty.set(true);
+        }
+    }
+
+    @Override
+    public void rebuildCompleted() {
+        dirty.set(false);
+        rebuild();
+    }
+
+    /** 변경된 매장이 있으면 트라이 재구성 */
+    @Scheduled(fixedDelayString = "${store.autocomplete.rebuild-delay-ms:1000}")
+    public void rebuildIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    /** 검색어로 시작하는 매장 이름 조회(최대 topK 개) */
+    public List<StoreSummary> suggest(String query, int limit) {
+        String normalized = HangulJamo.normalize(query);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return trie.find(HangulJamo.decompose(normalized), Math.min(limit, topK));
+    }
+
+    private void rebuild() {
+        List<StoreSummary> ranked = new ArrayList<>(stores.values());
+        ranked.sort(RANK_ORDER);
+
+        long startedAt = System.currentTimeMillis();
+        trie = Trie.build(ranked, topK);
+        log.debug("store autocomplete trie rebuilt. count: {}, elapsed: {}ms"
+                , ranked.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /** 매장 이름 전체와 단어 시작 위치부터의 이름(정규화 후) */
+    private static Set<String> suffixes(String name) {
+        Set<String> suffixes = new LinkedHashSet<>();
+        String[] words = name == null ? new String[0] : name.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String suffix = HangulJamo.normalize(String.join("", Arrays.asList(words).subList(i, words.length)));
+            if (!suffix.isEmpty()) {
+                suffixes.add(suffix);
+            }
+        }
+        return suffixes;
+    }
+
+    /** 불변 트라이(자식 노드는 정렬된 문자 배열로 이진 탐색) */
+    private static final class Trie {
+
+        private final Node root;
+        private final Map<Long, StoreSummary> stores;
+
+        private Trie(Node root, Map<Long, StoreSummary> stores) {
+            this.root = root;
+            this.stores = stores;
+        }
+
+        /** 순위순으로 정렬된 매장을 차례로 넣어 각 노드의 상위 topK 를 구성 */
+        private static Trie build(List<StoreSummary> ranked, int topK) {
+            Node root = new Node();
+            Map<Long, StoreSummary> stores = new HashMap<>(ranked.size() * 2);
+            for (StoreSummary store : ranked) {
+                stores.put(store.getId(), store);
+                for (String suffix : suffixes(store.getName())) {
+                    root.insert(HangulJamo.decompose(suffix), store.getId(), topK);
+                    root.insert(HangulJamo.chosung(suffix), store.getId(), topK);
+                }
+            }
+            return new Trie(root, Collections.unmodifiableMap(stores));
+        }
+
+        private List<StoreSummary> find(String key, int limit) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+
+            List<StoreSummary> results = new ArrayList<>(Math.min(limit, node.topSize));
+            for (int i = 0; i < node.topSize && results.size() < limit; i++) {
+                results.add(stores.get(node.top[i]));
+            }
+            return results;
+        }
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final long[] NO_TOP = new long[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private long[] top = NO_TOP;
+        private int topSize;
+
+        private void insert(String key, long storeId, int topK) {
+            Node node = this;
+            node.addTop(storeId, topK);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                node.addTop(storeId, topK);
+            }
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -(index + 1);
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            Node child = new Node();
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        /** 순위순으로 들어오므로 topK 개가 찰 때까지 중복 없이 추가 */
+        private void addTop(long storeId, int topK) {
+            if (topSize >= topK || (topSize > 0 && top[topSize - 1] == storeId)) {
+                return;
+            }
+            if (topSize == top.length) {
+                top = Arrays.copyOf(top, Math.min(Math.max(top.length * 2, 1), topK));
+            }
+            top[topSize++] = storeId;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.type.StoreStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 공개 매장 조회용 인메모리 카탈로그
+ * -> 전체 매장의 불변 스냅샷(ID, 점주, 영업 상태별 색인, 등록순/평점순 정렬 목록)
+ * -> 매장 변경 시 새 스냅샷을 만들어 원자적으로 교체(copy-on-write)하므로 읽기는 락 없이 동작
+ * -> 재구성 중에는 매장을 모아두었다가 재구성 완료 시 한 번에 스냅샷 생성
+ */
+@Component
+public class StoreCatalog implements StoreIndex {
+
+    private static final Comparator<StoreSummary> ID_ORDER = Comparator.comparing(StoreSummary::getId);
+    private static final Comparator<StoreSummary> RATING_ORDER =
+            Comparator.comparingDouble(StoreSummary::getAverageRating).reversed()
+                    .thenComparing(StoreSummary::getId);
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.of(Collections.emptyMap()));
+    private final Object writeLock = new Object();
+
+    private Map<Long, StoreSummary> rebuilding; // 재구성 중 모아둔 매장(writeLock 으로 보호)
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            rebuilding = new HashMap<>();
+        }
+    }
+
+    @Override
+    public void put(StoreSummary store) {
+        synchronized (writeLock) {
+            if (rebuilding != null) {
+                rebuilding.put(store.getId(), store);
+                return;
+            }
+
+            Map<Long, StoreSummary> stores = new HashMap<>(snapshot.get().byId);
+            stores.put(store.getId(), store);
+            snapshot.set(Snapshot.of(stores));
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        synchronized (writeLock) {
+            if (rebuilding != null) {
+                rebuilding.remove(storeId);
+                return;
+            }
+
+            if (snapshot.get().byId.containsKey(storeId)) {
+                Map<Long, StoreSummary> stores = new HashMap<>(snapshot.get().byId);
+                stores.remove(storeId);
+                snapshot.set(Snapshot.of(stores));
+            }
+        }
+    }
+
+    @Override
+    public void rebuildCompleted() {
+        synchronized (writeLock) {
+            if (rebuilding != null) {
+                snapshot.set(Snapshot.of(rebuilding));
+                rebuilding = null;
+            }
+        }
+    }
+
+    /** 매장 조회 */
+    public Optional<StoreSummary> findById(Long storeId) {
+        return Optional.ofNullable(snapshot.get().byId.get(storeId));
+    }
+
+    /** 점주가 관리하는 매장 조회(등록순) */
+    public List<StoreSummary> findByOwnerId(Long ownerId) {
+        return snapshot.get().byOwner.getOrDefault(ownerId, Collections.emptyList());
+    }
+
+    /** 영업 상태별 매장 조회(등록순) */
+    public List<StoreSummary> findByStatus(StoreStatus storeStatus) {
+        return snapshot.get().byStatus.getOrDefault(storeStatus, Collections.emptyList());
+    }
+
+    /** 매장 목록 조회(등록순, cursorId 이후 최대 limit 개) */
+    public List<StoreSummary> findAfterId(long cursorId, int limit) {
+        List<StoreSummary> stores = snapshot.get().idOrder;
+        int from = insertionPoint(stores, probe(cursorId, 0.0), ID_ORDER);
+        return stores.subList(from, Math.min(from + limit, stores.size()));
+    }
+
+    /** 매장 목록 조회(평점 높은순, (rating, cursorId) 이후 최대 limit 개, rating 이 null 이면 첫 페이지) */
+    public List<StoreSummary> findByRatingAfter(Double rating, long cursorId, int limit) {
+        List<StoreSummary> stores = snapshot.get().ratingOrder;
+        int from = rating == null ? 0 : insertionPoint(stores, probe(cursorId, rating), RATING_ORDER);
+        return stores.subList(from, Math.min(from + limit, stores.size()));
+    }
+
+    /** 스냅샷의 매장 ID 전체 */
+    public Set<Long> ids() {
+        return snapshot.get().byId.keySet();
+    }
+
+    public int size() {
+        return snapshot.get().byId.size();
+    }
+
+    /** 정렬 목록에서 기준 매장 바로 다음 위치 */
+    private static int insertionPoint(List<StoreSummary> stores, StoreSummary key, Comparator<StoreSummary> order) {
+        int index = Collections.binarySearch(stores, key, order);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    private static StoreSummary probe(long id, double averageRating) {
+        return StoreSummary.builder()
+                .id(id)
+                .averageRating(averageRating)
+                .build();
+    }
+
+    /** 불변 스냅샷 */
+    private static final class Snapshot {
+
+        private final Map<Long, StoreSummary> byId;
+        private final Map<Long, List<StoreSummary>> byOwner;
+        private final Map<StoreStatus, List<StoreSummary>> byStatus;
+        private final List<StoreSummary> idOrder;
+        private final List<StoreSummary> ratingOrder;
+
+        private Snapshot(Map<Long, StoreSummary> byId, Map<Long, List<StoreSummary>> byOwner,
+                         Map<StoreStatus, List<StoreSummary>> byStatus,
+                         List<StoreSummary> idOrder, List<StoreSummary> ratingOrder) {
+            this.byId = byId;
+            this.byOwner = byOwner;
+            this.byStatus = byStatus;
+            this.idOrder = idOrder;
+            this.ratingOrder = ratingOrder;
+        }
+
+        private static Snapshot of(Map<Long, StoreSummary> stores) {
+            List<StoreSummary> idOrder = new ArrayList<>(stores.values());
+            idOrder.sort(ID_ORDER);
+            List<StoreSummary> ratingOrder = new ArrayList<>(idOrder);
+            ratingOrder.sort(RATING_ORDER);
+
+            Map<Long, List<StoreSummary>> byOwner = new HashMap<>();
+            Map<StoreStatus, List<StoreSummary>> byStatus = new EnumMap<>(StoreStatus.class);
+            for (StoreSummary store : idOrder) {
+                byOwner.computeIfAbsent(store.getOwnerId(), key -> new ArrayList<>()).add(store);
+                byStatus.computeIfAbsent(store.getStoreStatus(), key -> new ArrayList<>()).add(store);
+            }
+            byOwner.replaceAll((ownerId, ownerStores) -> Collections.unmodifiableList(ownerStores));
+            byStatus.replaceAll((storeStatus, statusStores) -> Collections.unmodifiableList(statusStores));
+
+            return new Snapshot(Collections.unmodifiableMap(new HashMap<>(stores))
+                    , Collections.unmodifiableMap(byOwner)
+                    , Collections.unmodifiableMap(byStatus)
+                    , Collections.unmodifiableList(idOrder)
+                    , Collections.unmodifiableList(ratingOrder));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 매장 카탈로그 스냅샷과 DB 주기적 비교
+ * -> 스냅샷에 없거나 다른 매장, DB 에 없는 매장은 DB 에서 다시 조회하여 한 번 더 확인한 뒤
+ *    모든 매장 인덱스에 재반영(DB 에 없으면 제거)
+ * -> 비교용 스트리밍만 짧은 읽기 전용 트랜잭션에서 처리하고, 확인 조회는 매장마다 별도로 조회
+ *    (같은 트랜잭션이면 REPEATABLE READ 스냅샷을 다시 읽어 이후 등록, 변경된 매장을 이전 행으로 덮어쓴다.)
+ * -> 확인 조회 이후 변경 이벤트가 반영된 매장은 재반영하지 않는다(다음 검사에서 다시 확인).
+ */
+@Slf4j
+@Component
+public class StoreCatalogConsistencyChecker {
+
+    private final StoreRepository storeRepository;
+    private final StoreCatalog storeCatalog;
+    private final StoreIndexManager storeIndexManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public StoreCatalogConsistencyChecker(StoreRepository storeRepository, StoreCatalog storeCatalog,
+                                          StoreIndexManager storeIndexManager,
+                                          PlatformTransactionManager transactionManager) {
+        this.storeRepository = storeRepository;
+        this.storeCatalog = storeCatalog;
+        this.storeIndexManager = storeIndexManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Scheduled(initialDelayString = "${store.catalog.consistency-check-interval-ms:600000}"
+            , fixedDelayString = "${store.catalog.consistency-check-interval-ms:600000}")
+    public void check() {
+        if (!storeIndexManager.isReady()) {
+            return;
+        }
+
+        // 1. DB 매장과 스냅샷 비교(스냅샷에 없거나 다른 매장)
+        Set<Long> mismatched = new HashSet<>();
+        Set<Long> storeIds = new HashSet<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<StoreSummary> stores = storeRepository.streamAllSummaries()) {
+                for (StoreSummary store : (Iterable<StoreSummary>) stores::iterator) {
+                    if (!Objects.equals(storeCatalog.findById(store.getId()).orElse(null), store)) {
+                        mismatched.add(store.getId());
+                    }
+                    storeIds.add(store.getId());
+                }
+            }
+        });
+
+        // 2. 스냅샷에만 있는 매장
+        for (Long storeId : storeCatalog.ids()) {
+            if (!storeIds.contains(storeId)) {
+                mismatched.add(storeId);
+            }
+        }
+
+        if (mismatched.isEmpty()) {
+            return;
+        }
+
+        // 3. 비교 중 반영된 변경일 수 있으므로 트랜잭션 밖에서 다시 조회하여 다른 경우만 재반영(DB 에 없으면 제거)
+        int repaired = 0;
+        int skipped = 0;
+        for (Long storeId : mismatched) {
+            long sequence = storeIndexManager.eventSequence();
+            StoreSummary store = storeRepository.findSummaryById(storeId).orElse(null);
+            StoreSummary cached = storeCatalog.findById(storeId).orElse(null);
+            if (store == null && cached != null) {
+                if (storeIndexManager.remove(storeId, sequence)) {
+                    repaired++;
+                } else {
+                    skipped++;
+                }
+            } else if (store != null && !Objects.equals(cached, store)) {
+                if (storeIndexManager.refresh(store, sequence)) {
+                    repaired++;
+                } else {
+                    skipped++;
+                }
+            }
+        }
+
+        if (repaired + skipped > 0) {
+            log.warn("store catalog is inconsistent with DB. db: {}, catalog: {}, mismatched: {}, repaired: {}, skipped: {}"
+                    , storeIds.size(), storeCatalog.size(), mismatched.size(), repaired, skipped);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreCluster;
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.type.StoreStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지도 클러스터용 지오해시 격자별 영업 매장 집계(매장 수, 평점 합계, 대표 매장)
+ * -> 지오해시 길이 1 ~ maxPrecision 의 모든 단계를 매장 등록, 폐업 시 증분 갱신
+ * -> 대표 매장(평점 > 리뷰 수 > 등록순)이 제거되면 가장 작은 격자는 소속 매장에서,
+ *    상위 격자는 하위 격자 32개의 대표 매장에서 다시 선택
+ * -> 격자 집계(Cell)는 불변 객체로 교체하므로 읽기는 락 없이 동작
+ */
+@Component
+public class StoreClusterIndex implements StoreIndex {
+
+    private static final int[] ZOOM_TO_PRECISION = {1, 1, 2, 2, 2, 3, 3, 4, 4, 5, 5, 5, 6, 6, 7, 7, 8};
+
+    private static final Comparator<StoreSummary> REPRESENTATIVE_ORDER =
+            Comparator.comparingDouble(StoreSummary::getAverageRating).reversed()
+                    .thenComparing(store -> store.getReviewCount() == null ? 0 : store.getReviewCount(),
+                            Comparator.reverseOrder())
+                    .thenComparing(StoreSummary::getId);
+
+    private final int maxPrecision;
+
+    private final Map<Long, StoreSummary> stores = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> members = new ConcurrentHashMap<>(); // 가장 작은 격자별 매장 ID
+    private final List<Map<String, Cell>> levels; // 지오해시 길이별 격자 집계(index = 길이)
+    private final Object writeLock = new Object();
+
+    public StoreClusterIndex(@Value("${store.cluster-index.max-precision:7}") int maxPrecision) {
+        this.maxPrecision = Math.min(Math.max(maxPrecision, 1), GeoHash.MAX_PRECISION);
+        this.levels = new ArrayList<>(this.maxPrecision + 1);
+        for (int precision = 0; precision <= this.maxPrecision; precision++) {
+            levels.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            stores.clear();
+            members.clear();
+            levels.forEach(Map::clear);
+        }
+    }
+
+    @Override
+    public void put(StoreSummary store) {
+        synchronized (writeLock) {
+            StoreSummary previous = stores.remove(store.getId());
+            if (previous != null) {
+                remove(previous);
+            }
+
+            if (store.getStoreStatus() == StoreStatus.OPEN) {
+                stores.put(store.getId(), store);
+                add(store);
+            }
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        synchronized (writeLock) {
+            StoreSummary previous = stores.remove(storeId);
+            if (previous != null) {
+                remove(previous);
+            }
+        }
+    }
+
+    /** 지도 줌 레벨에 맞는 지오해시 길이 */
+    public int precisionOf(int zoom) {
+        int precision = ZOOM_TO_PRECISION[Math.min(Math.max(zoom, 0), ZOOM_TO_PRECISION.length - 1)];
+        return Math.min(precision, maxPrecision);
+    }
+
+    /** 영역(minLat, minLon, maxLat, maxLon) 안의 격자 집계 조회 */
+    public List<StoreCluster> clusters(double minLat, double minLon, double maxLat, double maxLon, int precision) {
+        Map<String, Cell> cells = levels.get(precision);
+        double latSpan = GeoHash.latitudeSpan(precision);
+        double lonSpan = GeoHash.longitudeSpan(precision);
+        long rows = (long) Math.floor(maxLat / latSpan) - (long) Math.floor(minLat / latSpan) + 1;
+        long columns = (long) Math.floor(maxLon / lonSpan) - (long) Math.floor(minLon / lonSpan) + 1;
+
+        List<StoreCluster> clusters = new ArrayList<>();
+        if (rows * columns <= cells.size()) {
+            // 1. 영역 안의 격자 수가 적으면 격자를 직접 조회
+            for (long row = 0; row < rows; row++) {
+                double lat = Math.min(minLat + row * latSpan, maxLat);
+                for (long column = 0; column < columns; column++) {
+                    double lon = Math.min(minLon + column * lonSpan, maxLon);
+                    String geohash = GeoHash.encode(lat, lon, precision);
+                    Cell cell = cells.get(geohash);
+                    if (cell != null) {
+                        clusters.add(cell.toCluster(geohash));
+                    }
+                }
+            }
+        } else {
+            // 2. 집계된 격자 수가 적으면 전체 격자 중 영역과 겹치는 격자 선택
+            for (Map.Entry<String, Cell> entry : cells.entrySet()) {
+                double[] bounds = GeoHash.bounds(entry.getKey());
+                if (bounds[0] <= maxLat && bounds[2] >= minLat && bounds[1] <= maxLon && bounds[3] >= minLon) {
+                    clusters.add(entry.getValue().toCluster(entry.getKey()));
+                }
+            }
+        }
+        return clusters;
+    }
+
+    private void add(StoreSummary store) {
+        String geohash = GeoHash.encode(store.getLat(), store.getLon(), maxPrecision);
+        members.computeIfAbsent(geohash, key -> new HashSet<>()).add(store.getId());
+
+        for (int precision = 1; precision <= maxPrecision; precision++) {
+            String prefix = geohash.substring(0, precision);
+            Cell cell = levels.get(precision).get(prefix);
+            levels.get(precision).put(prefix, cell == null ? new Cell(store) : cell.add(store));
+        }
+    }
+
+    /** 가장 작은 격자부터 상위 격자 순으로 제거(상위 격자의 대표 매장은 하위 격자에서 다시 선택) */
+    private void remove(StoreSummary store) {
+        String geohash = GeoHash.encode(store.getLat(), store.getLon(), maxPrecision);
+        Set<Long> storeIds = members.get(geohash);
+        if (storeIds != null) {
+            storeIds.remove(store.getId());
+            if (storeIds.isEmpty()) {
+                members.remove(geohash);
+            }
+        }
+
+        for (int precision = maxPrecision; precision >= 1; precision--) {
+            String prefix = geohash.substring(0, precision);
+            Cell cell = levels.get(precision).get(prefix);
+            if (cell == null) {
+                continue;
+            }
+
+            if (cell.count <= 1) {
+                levels.get(precision).remove(prefix);
+                continue;
+            }
+
+            StoreSummary representative = Objects.equals(cell.representative.getId(), store.getId())
+                    ? selectRepresentative(prefix, precision)
+                    : cell.representative;
+            levels.get(precision).put(prefix, cell.remove(store, representative));
+        }
+    }
+
+    private StoreSummary selectRepresentative(String prefix, int precision) {
+        StoreSummary best = null;
+        if (precision == maxPrecision) {
+            for (Long storeId : members.getOrDefault(prefix, Collections.emptySet())) {
+                best = better(best, stores.get(storeId));
+            }
+            return best;
+        }
+
+        Map<String, Cell> children = levels.get(precision + 1);
+        for (int i = 0; i < GeoHash.BASE32.length(); i++) {
+            Cell child = children.get(prefix + GeoHash.BASE32.charAt(i));
+            if (child != null) {
+                best = better(best, child.representative);
+            }
+        }
+        return best;
+    }
+
+    private static StoreSummary better(StoreSummary current, StoreSummary candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || REPRESENTATIVE_ORDER.compare(candidate, current) < 0 ? candidate : current;
+    }
+
+    /** 격자 집계(불변) */
+    private static final class Cell {
+
+        private final int count;
+        private final double ratingSum;
+        private final StoreSummary representative;
+
+        private Cell(StoreSummary store) {
+            this(1, store.getAverageRating(), store);
+        }
+
+        private Cell(int count, double ratingSum, StoreSummary representative) {
+            this.count = count;
+            this.ratingSum = ratingSum;
+            this.representative = representative;
+        }
+
+        private Cell add(StoreSummary store) {
+            return new Cell(count + 1, ratingSum + store.getAverageRating(), better(representative, store));
+        }
+
+        private Cell remove(StoreSummary store, StoreSummary representative) {
+            return new Cell(count - 1, ratingSum - store.getAverageRating(), representative);
+        }
+
+        private StoreCluster toCluster(String geohash) {
+            double[] bounds = GeoHash.bounds(geohash);
+            return StoreCluster.builder()
+                    .geohash(geohash)
+                    .lat((bounds[0] + bounds[2]) / 2)
+                    .lon((bounds[1] + bounds[3]) / 2)
+                    .count(count)
+                    .averageRating(ratingSum / count)
+                    .representative(representative)
+                    .build();
+        }
+    }
+}
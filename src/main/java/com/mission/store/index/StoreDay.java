@@ -0,0 +1,34 @@
+package com.mission.store.index;
+
+import java.time.LocalDate;
+
+/**
+ * 매장-날짜 키(매장, 날짜 단위 인메모리 인덱스 공용)
+ */
+final class StoreDay {
+
+    final Long storeId;
+    final LocalDate date;
+
+    StoreDay(Long storeId, LocalDate date) {
+        this.storeId = storeId;
+        this.date = date;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StoreDay)) {
+            return false;
+        }
+        StoreDay storeDay = (StoreDay) o;
+        return storeId.equals(storeDay.storeId) && date.equals(storeDay.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * storeId.hashCode() + date.hashCode();
+    }
+}
@@ -0,0 +1,209 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.type.StoreStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 영업 중인 매장의 위치(위도, 경도) 격자 인덱스
+ * -> 위도, 경도를 cellDegrees 간격의 격자로 나누어 격자별 매장 ID 보관
+ * -> 근처 매장 조회는 중심 격자부터 링 단위로 넓혀가며 반경 내 가까운 순으로 limit 개 선택
+ *    (다음 링의 최소 거리가 현재 limit 번째 거리보다 멀면 조기 종료)
+ * -> 폐업(OPEN 이 아닌) 매장은 인덱스에서 제거
+ */
+@Component
+public class StoreGeoIndex implements StoreIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_METERS;
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+
+    private final Map<Long, StoreSummary> stores = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    public StoreGeoIndex(@Value("${store.geo-index.cell-degrees:0.01}") double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees) + 1;
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            stores.clear();
+            cells.clear();
+        }
+    }
+
+    @Override
+    public void put(StoreSummary store) {
+        synchronized (writeLock) {
+            // 1. 기존 위치 제거
+            removeLocation(store.getId());
+
+            // 2. 영업 중인 매장만 추가
+            if (store.getStoreStatus() == StoreStatus.OPEN) {
+                stores.put(store.getId(), store);
+                cells.computeIfAbsent(cellOf(store.getLat(), store.getLon()), key -> ConcurrentHashMap.newKeySet())
+                        .add(store.getId());
+            }
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        synchronized (writeLock) {
+            removeLocation(storeId);
+        }
+    }
+
+    private void removeLocation(Long storeId) {
+        StoreSummary previous = stores.remove(storeId);
+        if (previous == null) {
+            return;
+        }
+
+        long previousCell = cellOf(previous.getLat(), previous.getLon());
+        Set<Long> storeIds = cells.get(previousCell);
+        if (storeIds != null) {
+            storeIds.remove(storeId);
+            if (storeIds.isEmpty()) {
+                cells.remove(previousCell);
+            }
+        }
+    }
+
+    /** 반경(미터) 내 가까운 순으로 최대 limit 개의 매장 조회 */
+    public List<Neighbor> nearby(double lat, double lon, double radiusMeters, int limit) {
+        // 거리 내림차순 힙(가장 먼 후보가 맨 앞)
+        PriorityQueue<Neighbor> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(Neighbor::getDistance).reversed());
+
+        int row = row(lat);
+        int column = column(lon);
+        double cellMeters = minCellMeters(lat, radiusMeters);
+        int maxRing = Math.min((int) Math.ceil(radiusMeters / cellMeters) + 1, Math.max(rows, columns / 2));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // 1. 링에 속한 격자의 매장 거리 계산
+            for (int dRow = -ring; dRow <= ring; dRow++) {
+                int cellRow = row + dRow;
+                if (cellRow < 0 || cellRow >= rows) {
+                    continue;
+                }
+
+                boolean edgeRow = Math.abs(dRow) == ring;
+                for (int dColumn = -ring; dColumn <= ring; dColumn += edgeRow ? 1 : 2 * Math.max(ring, 1)) {
+                    int cellColumn = Math.floorMod(column + dColumn, columns);
+                    collect(cells.get((long) cellRow * columns + cellColumn), lat, lon, radiusMeters, limit, nearest);
+                }
+            }
+
+            // 2. 다음 링의 최소 거리가 현재 limit 번째 후보보다 멀면 종료
+            if (nearest.size() >= limit && nearest.peek().getDistance() <= ring * cellMeters) {
+                break;
+            }
+        }
+
+        List<Neighbor> results = new ArrayList<>(nearest);
+        results.sort(Comparator.comparingDouble(Neighbor::getDistance)
+                .thenComparing(neighbor -> neighbor.getStore().getId()));
+        return results;
+    }
+
+    public int size() {
+        return stores.size();
+    }
+
+    private void collect(Set<Long> storeIds, double lat, double lon, double radiusMeters, int limit,
+                         PriorityQueue<Neighbor> nearest) {
+        if (storeIds == null) {
+            return;
+        }
+
+        for (Long storeId : storeIds) {
+            StoreSummary store = stores.get(storeId);
+            if (store == null) {
+                continue;
+            }
+
+            double distance = distanceMeters(lat, lon, store.getLat(), store.getLon());
+            if (distance > radiusMeters) {
+                continue;
+            }
+
+            if (nearest.size() < limit) {
+                nearest.add(new Neighbor(store, distance));
+            } else if (distance < nearest.peek().getDistance()) {
+                nearest.poll();
+                nearest.add(new Neighbor(store, distance));
+            }
+        }
+    }
+
+    /** 탐색 범위 안에서 격자 한 칸의 최소 폭(미터), 고위도일수록 경도 방향 폭이 좁아진다. */
+    private double minCellMeters(double lat, double radiusMeters) {
+        double maxLat = Math.min(Math.abs(lat) + radiusMeters / METERS_PER_DEGREE, 89.0);
+        return cellDegrees * METERS_PER_DEGREE * Math.cos(Math.toRadians(maxLat));
+    }
+
+    private long cellOf(double lat, double lon) {
+        return (long) row(lat) * columns + column(lon);
+    }
+
+    private int row(double lat) {
+        return Math.min((int) Math.floor((lat + 90) / cellDegrees), rows - 1);
+    }
+
+    private int column(double lon) {
+        return Math.floorMod((int) Math.floor((lon + 180) / cellDegrees), columns);
+    }
+
+    /** 두 좌표 사이의 거리(미터, 하버사인 공식) */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /** 반경(미터)을 위도 차이(도)로 변환 */
+    public static double latitudeDegrees(double meters) {
+        return meters / METERS_PER_DEGREE;
+    }
+
+    /** 반경(미터)을 해당 위도에서의 경도 차이(도)로 변환 */
+    public static double longitudeDegrees(double meters, double lat) {
+        double cos = Math.cos(Math.toRadians(Math.min(Math.abs(lat), 89.0)));
+        return Math.min(meters / (METERS_PER_DEGREE * cos), 180.0);
+    }
+
+    public static final class Neighbor {
+
+        private final StoreSummary store;
+        private final double distance; // 거리(미터)
+
+        private Neighbor(StoreSummary store, double distance) {
+            this.store = store;
+            this.distance = distance;
+        }
+
+        public StoreSummary getStore() {
+            return store;
+        }
+
+        public double getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+
+/**
+ * 매장 테이블로부터 구성되는 인메모리 인덱스
+ * -> StoreIndexManager 가 시작 시 매장 테이블을 스트리밍하여 재구성하고, 매장 변경 이벤트로 갱신
+ */
+public interface StoreIndex {
+
+    /** 재구성 전 인덱스 초기화 */
+    void clear();
+
+    /** 매장 추가 또는 갱신 */
+    void put(StoreSummary store);
+
+    /** 매장 제거(일관성 검사에서 DB 에 없는 매장이 발견된 경우) */
+    void remove(Long storeId);
+
+    /** 재구성 완료(재구성 중 모아둔 매장을 한 번에 반영하는 인덱스에서 사용) */
+    default void rebuildCompleted() {
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.event.StoreChangedEvent;
+import com.mission.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 인메모리 매장 인덱스(StoreIndex) 구성 및 갱신
+ * -> 시작 시 매장 테이블을 한 번 스트리밍하여 모든 인덱스를 재구성
+ * -> 매장 변경 이벤트는 트랜잭션 커밋 이후 모든 인덱스에 반영
+ * -> 재구성 중 커밋된 변경은 모아두었다가 재구성 완료 후 순서대로 반영
+ *    (스트리밍 중 반영하면 이후 읽은 이전 행이 새 정보를 덮어쓸 수 있다.)
+ * -> 변경 이벤트마다 매장별 변경 순번을 기록하여, 일관성 검사가 조회한 이후 변경된 매장은 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreIndexManager {
+
+    private final StoreRepository storeRepository;
+    private final List<StoreIndex> storeIndexes;
+
+    private final Object eventLock = new Object();
+
+    private volatile boolean ready;
+    private List<StoreSummary> pendingEvents; // 재구성 중 모아둔 변경(eventLock 으로 보호)
+    private long eventSequence; // 변경 이벤트 순번(eventLock 으로 보호)
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>(); // 매장별 마지막 변경 이벤트 순번
+
+    /** 시작 시 매장 테이블 스트리밍으로 인덱스 재구성 */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (eventLock) {
+            ready = false;
+            pendingEvents = new ArrayList<>();
+            storeIndexes.forEach(StoreIndex::clear);
+        }
+
+        long count = 0;
+        try (Stream<StoreSummary> stores = storeRepository.streamAllSummaries()) {
+            for (StoreSummary store : (Iterable<StoreSummary>) stores::iterator) {
+                put(store);
+                count++;
+            }
+        }
+
+        // 재구성 완료 후 재구성 중 커밋된 변경을 순서대로 반영
+        int replayed;
+        synchronized (eventLock) {
+            storeIndexes.forEach(StoreIndex::rebuildCompleted);
+            pendingEvents.forEach(this::put);
+            replayed = pendingEvents.size();
+            pendingEvents = null;
+            ready = true;
+        }
+        log.info("store indexes rebuilt. indexes: {}, count: {}, replayed: {}", storeIndexes.size(), count, replayed);
+    }
+
+    /** 매장 변경 반영(트랜잭션 밖에서 발행된 경우 즉시 반영, 재구성 중이면 완료 후 반영) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        synchronized (eventLock) {
+            changedAt.put(event.getStore().getId(), ++eventSequence);
+            if (pendingEvents != null) {
+                pendingEvents.add(event.getStore());
+                return;
+            }
+            put(event.getStore());
+        }
+    }
+
+    /** 현재 변경 이벤트 순번(일관성 검사에서 DB 조회 전에 기록) */
+    public long eventSequence() {
+        synchronized (eventLock) {
+            return eventSequence;
+        }
+    }
+
+    /**
+     * DB 기준으로 매장 정보 재반영(일관성 검사에서 불일치가 발견된 경우)
+     * -> sequence 이후 변경 이벤트가 반영된 매장은 조회한 행이 더 오래되었을 수 있으므로 건너뛴다.
+     */
+    public boolean refresh(StoreSummary store, long sequence) {
+        synchronized (eventLock) {
+            if (pendingEvents != null || isChangedSince(store.getId(), sequence)) {
+                return false;
+            }
+            put(store);
+            return true;
+        }
+    }
+
+    /** 모든 인덱스에서 매장 제거(일관성 검사에서 DB 에 없는 매장이 발견된 경우, sequence 이후 변경된 매장은 건너뛴다.) */
+    public boolean remove(Long storeId, long sequence) {
+        synchronized (eventLock) {
+            if (pendingEvents != null || isChangedSince(storeId, sequence)) {
+                return false;
+            }
+            storeIndexes.forEach(storeIndex -> storeIndex.remove(storeId));
+            return true;
+        }
+    }
+
+    /** 인덱스 구성 완료 여부(완료 전에는 DB 조회) */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private boolean isChangedSince(Long storeId, long sequence) {
+        return changedAt.getOrDefault(storeId, 0L) > sequence;
+    }
+
+    private void put(StoreSummary store) {
+        for (StoreIndex storeIndex : storeIndexes) {
+            storeIndex.put(store);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 이름, 주소 검색용 n-gram 역색인
+ * -> 정규화(NFC, 소문자, 공백 제거)한 문자열을 코드 포인트 단위로 나누어 1-gram, 2-gram 색인
+ *    (완성형 한글은 음절 하나가 코드 포인트 하나이므로 음절 단위로 색인된다.)
+ * -> 검색어의 n-gram 포스팅 목록을 작은 것부터 교집합한 뒤 실제 포함 여부를 확인
+ * -> 쓰기는 하나의 락으로 직렬화하고, 읽기는 락 없이 동작
+ */
+@Component
+public class StoreNameIndex implements StoreIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            documents.clear();
+            postings.clear();
+        }
+    }
+
+    @Override
+    public void put(StoreSummary store) {
+        Document document = new Document(store);
+
+        synchronized (writeLock) {
+            Document previous = documents.put(store.getId(), document);
+            Set<String> previousGrams = previous == null ? Collections.emptySet() : previous.grams;
+
+            // 1. 더 이상 포함되지 않는 n-gram 제거
+            for (String gram : previousGrams) {
+                if (!document.grams.contains(gram)) {
+                    removePosting(gram, store.getId());
+                }
+            }
+
+            // 2. 새로 포함된 n-gram 추가
+            for (String gram : document.grams) {
+                if (!previousGrams.contains(gram)) {
+                    postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(store.getId());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        synchronized (writeLock) {
+            Document previous = documents.remove(storeId);
+            if (previous != null) {
+                previous.grams.forEach(gram -> removePosting(gram, storeId));
+            }
+        }
+    }
+
+    /** 이름 또는 주소에 검색어가 포함된 매장 검색(이름 일치 > 이름 시작 > 이름 포함 > 주소 포함, 평점순) */
+    public List<StoreSummary> search(String keyword, int limit) {
+        String query = HangulJamo.normalize(keyword);
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 1. 검색어의 n-gram 포스팅 목록 조회(하나라도 없으면 결과 없음)
+        Set<String> grams = queryGrams(query);
+        List<Set<Long>> postingLists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null || posting.isEmpty()) {
+                return Collections.emptyList();
+            }
+            postingLists.add(posting);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        // 2. 가장 작은 포스팅 목록부터 교집합 후 실제 포함 여부 확인
+        List<Match> matches = new ArrayList<>();
+        for (Long storeId : postingLists.get(0)) {
+            if (!containsInAll(postingLists, storeId)) {
+                continue;
+            }
+
+            Document document = documents.get(storeId);
+            if (document == null) {
+                continue;
+            }
+
+            int rank = document.rank(query);
+            if (rank >= 0) {
+                matches.add(new Match(document.store, rank));
+            }
+        }
+
+        // 3. 정렬 후 개수 제한
+        matches.sort(Comparator.comparingInt((Match match) -> match.rank)
+                .thenComparing(match -> match.store.getAverageRating(), Comparator.reverseOrder())
+                .thenComparing(match -> match.store.getId()));
+
+        List<StoreSummary> results = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            results.add(matches.get(i).store);
+        }
+        return results;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private void removePosting(String gram, Long storeId) {
+        Set<Long> posting = postings.get(gram);
+        if (posting != null) {
+            posting.remove(storeId);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<Set<Long>> postingLists, Long storeId) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (!postingLists.get(i).contains(storeId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 검색어가 GRAM_SIZE 보다 짧으면 1-gram, 아니면 2-gram 으로 조회 */
+    private static Set<String> queryGrams(String query) {
+        int[] codePoints = query.codePoints().toArray();
+        Set<String> grams = new HashSet<>();
+        int gramSize = Math.min(codePoints.length, GRAM_SIZE);
+        for (int i = 0; i + gramSize <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, gramSize));
+        }
+        return grams;
+    }
+
+    /** 문자열의 1-gram, 2-gram 추출 */
+    private static void addGrams(String value, Set<String> grams) {
+        int[] codePoints = value.codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + GRAM_SIZE <= codePoints.length) {
+                grams.add(new String(codePoints, i, GRAM_SIZE));
+            }
+        }
+    }
+
+    private static final class Document {
+
+        private final StoreSummary store;
+        private final String name;
+        private final String address;
+        private final Set<String> grams;
+
+        private Document(StoreSummary store) {
+            this.store = store;
+            this.name = HangulJamo.normalize(store.getName());
+            this.address = HangulJamo.normalize(store.getAddress());
+            this.grams = new HashSet<>();
+            addGrams(this.name, this.grams);
+            addGrams(this.address, this.grams);
+        }
+
+        /** 검색어 일치 순위(일치하지 않으면 -1) */
+        private int rank(String query) {
+            if (name.equals(query)) {
+                return 0;
+            }
+            if (name.startsWith(query)) {
+                return 1;
+            }
+            if (name.contains(query)) {
+                return 2;
+            }
+            if (address.contains(query)) {
+                return 3;
+            }
+            return -1;
+        }
+    }
+
+    private static final class Match {
+
+        private final StoreSummary store;
+        private final int rank;
+
+        private Match(StoreSummary store, int rank) {
+            this.store = store;
+            this.rank = rank;
+        }
+    }
+}
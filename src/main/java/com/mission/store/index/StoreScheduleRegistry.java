@@ -0,0 +1,44 @@
+package com.mission.store.index;
+
+import com.mission.store.domain.StoreSchedule;
+import com.mission.store.dto.StoreSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장별 컴파일된 영업 시간, 휴무 시간(StoreSchedule) 캐시
+ * -> 매장 인덱스 재구성, 매장 변경 이벤트 시 컴파일
+ * -> 조회 시 캐시된 스케줄이 현재 매장 문자열과 다르면(이벤트 반영 전 등) 다시 컴파일
+ */
+@Component
+public class StoreScheduleRegistry implements StoreIndex {
+
+    private final Map<Long, StoreSchedule> schedules = new ConcurrentHashMap<>();
+
+    @Override
+    public void clear() {
+        schedules.clear();
+    }
+
+    @Override
+    public void put(StoreSummary store) {
+        schedules.put(store.getId(), StoreSchedule.compile(store.getBusinessHours(), store.getBreakTime()));
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        schedules.remove(storeId);
+    }
+
+    /** 매장 스케줄 조회 */
+    public StoreSchedule get(Long storeId, String businessHours, String breakTime) {
+        StoreSchedule schedule = schedules.get(storeId);
+        if (schedule == null || !schedule.isCompiledFrom(businessHours, breakTime)) {
+            schedule = StoreSchedule.compile(businessHours, breakTime);
+            schedules.put(storeId, schedule);
+        }
+        return schedule;
+    }
+}
@@ -0,0 +1,112 @@
+package com.mission.store.index;
+
+import java.util.*;
+
+/**
+ * 분(minute) 단위 계층형 타이밍 휠
+ * -> 단계마다 64칸, 5단계(64^5 분)로 만료 시각까지 남은 시간에 따라 칸에 배치
+ *    (만료 시각과 현재 시각의 비트가 처음 달라지는 6비트 묶음이 단계)
+ * -> 시각을 진행하면 상위 단계 칸의 항목을 하위 단계로 옮기고(cascade), 0단계 칸의 항목을 만료
+ * -> 추가, 만료는 항목 수와 무관하게 O(1)이며 취소는 만료 시각만 지우고 칸에서는 만료 시점에 건너뛴다.
+ */
+final class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int LEVELS = 5;
+
+    private final List<List<Set<T>>> wheels = new ArrayList<>(LEVELS);
+    private final Map<T, Long> deadlines = new HashMap<>();
+    private final List<T> due = new ArrayList<>(); // 추가 시점에 이미 만료된 항목
+
+    private long current; // 현재 시각(분)
+
+    TimingWheel(long current) {
+        this.current = current;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<T>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new HashSet<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    /** 항목 추가(이미 있으면 만료 시각 변경) */
+    synchronized void add(T item, long deadline) {
+        deadlines.put(item, deadline);
+        place(item, deadline);
+    }
+
+    /** 항목 취소 */
+    synchronized void cancel(T item) {
+        deadlines.remove(item);
+    }
+
+    /** now 까지 시각을 진행하고 만료된 항목 반환 */
+    synchronized List<T> advance(long now) {
+        List<T> expired = new ArrayList<>();
+        drain(due, expired);
+
+        while (current < now) {
+            current++;
+
+            // 1. 하위 단계가 한 바퀴 돈 단계의 칸을 하위 단계로 이동(상위 단계부터)
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if ((current & ((1L << (BITS * level)) - 1)) == 0) {
+                    Set<T> slot = wheels.get(level).get(index(current, level));
+                    List<T> items = new ArrayList<>(slot);
+                    slot.clear();
+                    for (T item : items) {
+                        Long deadline = deadlines.get(item);
+                        if (deadline != null) {
+                            place(item, deadline);
+                        }
+                    }
+                }
+            }
+
+            // 2. 0단계 칸 만료
+            Set<T> slot = wheels.get(0).get(index(current, 0));
+            for (T item : slot) {
+                if (Objects.equals(deadlines.get(item), current)) {
+                    deadlines.remove(item);
+                    expired.add(item);
+                }
+            }
+            slot.clear();
+            drain(due, expired);
+        }
+        return expired;
+    }
+
+    synchronized int size() {
+        return deadlines.size();
+    }
+
+    private void place(T item, long deadline) {
+        if (deadline <= current) {
+            due.add(item);
+            return;
+        }
+
+        int level = Math.min((63 - Long.numberOfLeadingZeros(deadline ^ current)) / BITS, LEVELS - 1);
+        wheels.get(level).get(index(deadline, level)).add(item);
+    }
+
+    /** 추가 시점에 만료된 항목 중 취소되지 않은 항목 이동 */
+    private void drain(List<T> items, List<T> expired) {
+        for (T item : items) {
+            Long deadline = deadlines.get(item);
+            if (deadline != null && deadline <= current) {
+                deadlines.remove(item);
+                expired.add(item);
+            }
+        }
+        items.clear();
+    }
+
+    private static int index(long minute, int level) {
+        return (int) ((minute >>> (BITS * level)) & (SLOTS - 1));
+    }
+}
@@ -1,5 +1,6 @@
 package com.mission.store.jwt;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,17 +19,26 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String accessToken = jwtProvider.resolveTokenFromRequest(request);
 
-        if (StringUtils.hasText(accessToken) && jwtProvider.validateToken(accessToken)) {
-            // 토큰 유효성 검증 -> accessToken 확인
-            Authentication authentication = jwtProvider.getAuthentication(accessToken);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(accessToken)) {
+            // 토큰 유효성 검증 -> 한 번 검증한 클레임으로 인증 정보 생성
+            Claims claims = jwtProvider.resolveClaims(accessToken);
+            if (claims != null && !isRevoked(claims)) {
+                Authentication authentication = jwtProvider.getAuthentication(claims);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /** 로그아웃 또는 정지/탈퇴로 폐기된 토큰인지 확인 */
+    private boolean isRevoked(Claims claims) {
+        return tokenRevocationList.isRevoked(claims.getId(), jwtProvider.getMemberId(claims), claims.getIssuedAt());
+    }
 }
@@ -1,8 +1,11 @@
 package com.mission.store.jwt;
 
+import com.mission.store.domain.MemberDetails;
 import com.mission.store.dto.TokenDto;
 import com.mission.store.service.MemberDetailsService;
+import com.mission.store.service.MemberStatusCache;
 import com.mission.store.type.MemberRole;
+import com.mission.store.type.MemberStatus;
 import io.jsonwebtoken.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,7 +17,10 @@ import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.UUID;
 
 
 /**
@@ -28,23 +34,34 @@ public class JwtProvider {
     private static final String TOKEN_HEADER = "Authorization";
     private static final String TOKEN_PREFIX = "Bearer ";
     private static final String KEY_ROLE = "memberRole";
+    private static final String KEY_MEMBER_ID = "memberId";
+    private static final String KEY_EMAIL = "email";
 
-    private static final long ACCESS_TOKEN_EXPIRE_TIME = 60 * 60 * 1000L; // 1 hour
+    public static final long ACCESS_TOKEN_EXPIRE_TIME = 60 * 60 * 1000L; // 1 hour
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 14 * 24 * 60 * 60 * 1000L; // 14 day
 
     private final MemberDetailsService memberDetailsService;
+    private final MemberStatusCache memberStatusCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     // TODO @PostConstruct -> secretKey(Not Encoding)를 Base64 인코더 하는 방식 고려
     @Value("${spring.jwt.secret}")
     private String secretKey;
 
+    // 토큰 클레임만으로 인증 정보 생성 여부(회원 상태는 캐시로 확인)
+    @Value("${spring.jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
     /** 토큰 생성 */
     // TODO 리프레시 토큰으로 엑세스 토큰 재발급 로직 필요
     // TODO 리프레시 토큰으로 토큰(엑세스 + 리프레시) 재발급 이후 DB 저장
-    public TokenDto GenerateToken(String phone, MemberRole memberRole) {
+    public TokenDto GenerateToken(Long memberId, String email, String phone, MemberRole memberRole) {
 //        // Claims -> 구분을 위한 phone, role 삽입
         Claims claims = Jwts.claims().setSubject(phone);
         claims.put(KEY_ROLE, memberRole);
+        // 요청마다 회원 조회 없이 인증 정보를 만들기 위한 회원 ID, 이메일 삽입
+        claims.put(KEY_MEMBER_ID, memberId);
+        claims.put(KEY_EMAIL, email);
 
         // 생성날짜, 만료날짜를 위한 Date
         Date now = new Date();
@@ -52,6 +69,7 @@ public class JwtProvider {
         String accessToken = Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString()) // 토큰 단위 폐기를 위한 jti
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_EXPIRE_TIME))
                 .signWith(SignatureAlgorithm.HS512, secretKey)
@@ -59,6 +77,7 @@ public class JwtProvider {
 
         String refreshToken = Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setId(UUID.randomUUID().toString())
                 .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_EXPIRE_TIME))
                 .signWith(SignatureAlgorithm.HS512, secretKey)
                 .compact();
@@ -71,12 +90,45 @@ public class JwtProvider {
                 .build();
     }
 
+    /** 지금 발급하는 리프레시 토큰의 만료 일자 */
+    public LocalDateTime getRefreshTokenExpiredAt() {
+        return LocalDateTime.now().plus(REFRESH_TOKEN_EXPIRE_TIME, ChronoUnit.MILLIS);
+    }
+
     /** Spring Security 인증 과정에서 권한 확인 */
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = memberDetailsService.loadUserByUsername(this.getPhone(token));
+        return getAuthentication(parseClaims(token));
+    }
+
+    /** 검증된 클레임으로 권한 확인 */
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = statelessPrincipal && hasPrincipalClaims(claims)
+                ? loadUserFromClaims(claims)
+                : memberDetailsService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    /** 인증 정보 생성에 필요한 클레임이 포함된 토큰인지 확인(이전 발급 토큰 호환) */
+    private boolean hasPrincipalClaims(Claims claims) {
+        return claims.get(KEY_MEMBER_ID) instanceof Number
+                && claims.get(KEY_EMAIL) instanceof String
+                && claims.get(KEY_ROLE) instanceof String;
+    }
+
+    /** 토큰 클레임으로 인증 정보 생성 -> 회원 상태는 캐시 미스일 경우에만 DB 조회 */
+    private UserDetails loadUserFromClaims(Claims claims) {
+        Long memberId = getMemberId(claims);
+        // 정지 또는 탈퇴된 계정일 경우 예외 처리
+        MemberStatus memberStatus = memberStatusCache.getAuthenticatableStatus(memberId);
+
+        return MemberDetails.fromToken(
+                memberId
+                , claims.get(KEY_EMAIL, String.class)
+                , claims.getSubject()
+                , MemberRole.valueOf(claims.get(KEY_ROLE, String.class))
+                , memberStatus);
+    }
+
     /** JWT 토큰 복호화 후 가져오기 */
     public Claims parseClaims(String token) {
         try {
@@ -87,6 +139,42 @@ public class JwtProvider {
         }
     }
 
+    /** 서명과 만료 시간이 유효한 토큰의 클레임 가져오기(유효하지 않은 경우 null) */
+    public Claims resolveClaims(String token) {
+        // token 값이 빈 값일 경우 유효하지 않다.
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        // 검증된 토큰 캐시 확인 -> 캐시는 토큰 만료 시각까지만 보관
+        Claims cachedClaims = verifiedTokenCache.get(token);
+        if (cachedClaims != null) {
+            return cachedClaims;
+        }
+
+        Claims claims;
+        try {
+            claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료, 서명 불일치, 형식 오류
+            return null;
+        }
+
+        // 토큰 만료시간이 현재 시간보다 이전인지 아닌지 확인
+        if (claims.getExpiration() == null || claims.getExpiration().before(new Date())) {
+            return null;
+        }
+
+        verifiedTokenCache.put(token, claims);
+        return claims;
+    }
+
+    /** 회원 ID 가져오기(이전 발급 토큰은 null) */
+    public Long getMemberId(Claims claims) {
+        Object memberId = claims.get(KEY_MEMBER_ID);
+        return memberId instanceof Number ? ((Number) memberId).longValue() : null;
+    }
+
     /** SUBJECT(사용자 전화번호) 가져오기 */
     public String getPhone(String accessToken) {
         return parseClaims(accessToken).getSubject();
@@ -94,8 +182,11 @@ public class JwtProvider {
 
     /** 토큰 추출 */
     public String resolveTokenFromRequest(HttpServletRequest request) {
-        String token = request.getHeader(TOKEN_HEADER);
+        return resolveToken(request.getHeader(TOKEN_HEADER));
+    }
 
+    /** Authorization 헤더 값에서 토큰 추출 */
+    public String resolveToken(String token) {
         if (!ObjectUtils.isEmpty(token) && token.startsWith(TOKEN_PREFIX)) {
             return token.substring(TOKEN_PREFIX.length());
         }
@@ -105,14 +196,7 @@ public class JwtProvider {
 
     /** 토큰 유효성 검사 */
     public boolean validateToken(String token) {
-        // token 값이 빈 값일 경우 유효하지 않다.
-        if (!StringUtils.hasText(token)) {
-            return false;
-        }
-
-        Claims claims = parseClaims(token);
-        // 토큰 만료시간이 현재 시간보다 이전인지 아닌지 확인
-        return !claims.getExpiration().before(new Date());
+        return resolveClaims(token) != null;
     }
 
 }
@@ -0,0 +1,28 @@
+package com.mission.store.jwt;
+
+import com.mission.store.repository.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 리프레시 토큰 주기적 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Scheduled(fixedDelayString = "${spring.jwt.refresh-token-sweep-interval-ms:600000}")
+    public void sweepExpiredTokens() {
+        int deleted = refreshTokenStore.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("expired refresh tokens deleted. count: {}", deleted);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.mission.store.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 보관하기 위한 SHA-256 다이제스트
+ */
+public final class TokenDigests {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private TokenDigests() {
+    }
+
+    /** 토큰 SHA-256 다이제스트 */
+    public static byte[] sha256(String token) {
+        MessageDigest messageDigest = SHA_256.get();
+        messageDigest.reset();
+        return messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /** 토큰 SHA-256 다이제스트(Base64 문자열) */
+    public static String sha256Base64(String token) {
+        return Base64.getEncoder().withoutPadding().encodeToString(sha256(token));
+    }
+}
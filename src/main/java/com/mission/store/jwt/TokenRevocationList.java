@@ -0,0 +1,126 @@
+package com.mission.store.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 엑세스 토큰 폐기 목록(로그아웃, 회원 정지/탈퇴)
+ * -> 토큰 ID(jti) 단위 폐기와 회원 단위 폐기(폐기 시각 이전 발급 토큰 전체)를 O(1)로 확인
+ * -> 폐기 항목은 만료 시각 기준 시간 버킷에 함께 기록하여 버킷 단위로 정리
+ *    (엑세스 토큰 만료 시간이 지나면 폐기 목록에 남길 필요가 없다.)
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final long BUCKET_MILLIS = 5 * 60 * 1000L; // 5 minutes
+
+    private final Map<String, Long> revokedTokenIds = new ConcurrentHashMap<>();
+    private final Map<Long, Long> revokedMembers = new ConcurrentHashMap<>();
+
+    private final Map<Long, Queue<String>> tokenIdBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, Queue<Long>> memberBuckets = new ConcurrentHashMap<>();
+
+    /** 토큰 단위 폐기(토큰 만료 시각까지 유지) */
+    public void revokeToken(String tokenId, Date expiration) {
+        long expiresAt = expiration != null
+                ? expiration.getTime()
+                : System.currentTimeMillis() + JwtProvider.ACCESS_TOKEN_EXPIRE_TIME;
+
+        revokedTokenIds.put(tokenId, expiresAt);
+        tokenIdBuckets.computeIfAbsent(bucketOf(expiresAt), bucket -> new ConcurrentLinkedQueue<>()).add(tokenId);
+    }
+
+    /** 회원 단위 폐기 -> 폐기 시각(초 단위 절삭) 이전 초에 발급된 엑세스 토큰 전체 폐기 */
+    public void revokeMember(Long memberId) {
+        // iat 는 초 단위이므로 폐기 시각도 초 단위로 절삭해서 비교
+        long revokedAt = System.currentTimeMillis() / 1000 * 1000;
+
+        revokedMembers.put(memberId, revokedAt);
+        memberBuckets.computeIfAbsent(bucketOf(revokedAt + JwtProvider.ACCESS_TOKEN_EXPIRE_TIME), bucket -> new ConcurrentLinkedQueue<>())
+                .add(memberId);
+    }
+
+    /** 회원 단위 폐기(현재 트랜잭션이 커밋된 이후, 트랜잭션 밖이면 즉시 폐기) */
+    public void revokeMemberAfterCommit(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revokeMember(memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revokeMember(memberId);
+            }
+        });
+    }
+
+    /** 폐기된 토큰인지 확인 */
+    public boolean isRevoked(String tokenId, Long memberId, Date issuedAt) {
+        if (tokenId != null && revokedTokenIds.containsKey(tokenId)) {
+            return true;
+        }
+
+        if (memberId == null) {
+            return false;
+        }
+
+        Long revokedAt = revokedMembers.get(memberId);
+        // 폐기 시각과 같은 초에 발급된 토큰(폐기 직후 재로그인 등)은 유효한 것으로 본다.
+        // (정지, 탈퇴된 회원은 회원 상태 확인에서 거부되므로 같은 초에 발급된 토큰도 인증되지 않는다.)
+        return revokedAt != null && (issuedAt == null || issuedAt.getTime() < revokedAt);
+    }
+
+    /** 만료 시각이 지난 버킷 정리 */
+    @Scheduled(fixedDelay = BUCKET_MILLIS)
+    public void sweepExpiredBuckets() {
+        long now = System.currentTimeMillis();
+        long currentBucket = bucketOf(now);
+
+        int removed = 0;
+        Iterator<Map.Entry<Long, Queue<String>>> tokenIdIterator = tokenIdBuckets.entrySet().iterator();
+        while (tokenIdIterator.hasNext()) {
+            Map.Entry<Long, Queue<String>> bucket = tokenIdIterator.next();
+            if (bucket.getKey() < currentBucket) {
+                for (String tokenId : bucket.getValue()) {
+                    removed += revokedTokenIds.remove(tokenId) != null ? 1 : 0;
+                }
+                tokenIdIterator.remove();
+            }
+        }
+
+        Iterator<Map.Entry<Long, Queue<Long>>> memberIterator = memberBuckets.entrySet().iterator();
+        while (memberIterator.hasNext()) {
+            Map.Entry<Long, Queue<Long>> bucket = memberIterator.next();
+            if (bucket.getKey() < currentBucket) {
+                for (Long memberId : bucket.getValue()) {
+                    // 이후 다시 폐기된 회원은 유지
+                    Long revokedAt = revokedMembers.get(memberId);
+                    if (revokedAt != null && revokedAt + JwtProvider.ACCESS_TOKEN_EXPIRE_TIME < now) {
+                        removed += revokedMembers.remove(memberId, revokedAt) ? 1 : 0;
+                    }
+                }
+                memberIterator.remove();
+            }
+        }
+
+        if (removed > 0) {
+            log.info("expired revocations removed. count: {}", removed);
+        }
+    }
+
+    private static long bucketOf(long epochMillis) {
+        return epochMillis / BUCKET_MILLIS;
+    }
+}
@@ -0,0 +1,90 @@
+package com.mission.store.jwt;
+
+import com.mission.store.cache.ExpiringLruCache;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임 캐시
+ * -> 같은 토큰의 HS512 서명 검증과 JSON 파싱을 토큰 만료 시까지 반복하지 않는다.
+ * -> 토큰 원문 대신 SHA-256 다이제스트를 키로 사용
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final long STATS_LOG_INTERVAL = 10_000;
+
+    @Value("${spring.jwt.verified-token-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${spring.jwt.verified-token-cache.max-size:50000}")
+    private int maxSize;
+
+    @Value("${spring.jwt.verified-token-cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    private ExpiringLruCache<String, Claims> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        cache = new ExpiringLruCache<>(maxSize, ttlSeconds * 1000L);
+    }
+
+    /** 검증된 클레임 조회(없거나 만료된 경우 null) */
+    public Claims get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        Claims claims = cache.get(TokenDigests.sha256Base64(token));
+        if (claims != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        logStatsPeriodically();
+
+        return claims;
+    }
+
+    /** 검증된 클레임 저장(토큰 만료 시각까지만 보관) */
+    public void put(String token, Claims claims) {
+        if (!enabled || claims.getExpiration() == null) {
+            return;
+        }
+
+        cache.put(TokenDigests.sha256Base64(token), claims, claims.getExpiration().getTime());
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /** 캐시 적중률 */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private void logStatsPeriodically() {
+        long total = getHitCount() + getMissCount();
+        if (total % STATS_LOG_INTERVAL == 0) {
+            log.info("verified token cache. hit: {}, miss: {}, hitRate: {}, size: {}"
+                    , getHitCount(), getMissCount(), String.format("%.3f", getHitRate()), cache.size());
+        }
+    }
+}
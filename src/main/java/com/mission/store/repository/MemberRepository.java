@@ -1,9 +1,22 @@
 package com.mission.store.repository;
 
 import com.mission.store.domain.Member;
+import com.mission.store.dto.MemberUniqueKeys;
+import com.mission.store.type.MemberStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -15,4 +28,32 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     // 닉네임으로 유저 검색
     Optional<Member> findByNickname(String nickname);
+
+    // 회원 ID로 회원 상태만 조회
+    @Query("select m.memberStatus from Member m where m.id = :id")
+    Optional<MemberStatus> findMemberStatusById(@Param("id") Long id);
+
+    // 이메일, 전화번호, 닉네임 중 하나라도 일치하는 회원 조회(중복 확인 1회 쿼리)
+    @Query("select m.email as email, m.phone as phone, m.nickname as nickname from Member m"
+            + " where m.email = :email or m.phone = :phone or m.nickname = :nickname")
+    List<MemberUniqueKeys> findUniqueKeysByEmailOrPhoneOrNickname(
+            @Param("email") String email
+            , @Param("phone") String phone
+            , @Param("nickname") String nickname);
+
+    // 전체 회원의 이메일, 전화번호, 닉네임 스트리밍 조회(MySQL 스트리밍 결과셋)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select m.email as email, m.phone as phone, m.nickname as nickname from Member m")
+    Stream<MemberUniqueKeys> streamAllUniqueKeys();
+
+    // 재암호화한 비밀번호 저장(조회 이후 비밀번호가 변경되지 않은 경우만, 다른 컬럼은 덮어쓰지 않는다.)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.password = :newPassword, m.updatedAt = :now"
+            + " where m.id = :id and m.password = :oldPassword")
+    int updatePasswordIfUnchanged(
+            @Param("id") Long id
+            , @Param("oldPassword") String oldPassword
+            , @Param("newPassword") String newPassword
+            , @Param("now") LocalDateTime now);
 }
@@ -2,11 +2,23 @@ package com.mission.store.repository;
 
 import com.mission.store.domain.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     // 유저 ID를 통해 토큰 검색
     Optional<RefreshToken> findByKey(Long key);
+
+    // 유저 ID를 통해 토큰 삭제
+    void deleteByKey(Long key);
+
+    // 만료된 토큰 일괄 삭제
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiredAt < :now")
+    int deleteAllByExpiredAtBefore(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,24 @@
+package com.mission.store.repository;
+
+import com.mission.store.type.RefreshTokenRotationResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 저장소
+ * -> spring.jwt.refresh-token-store 설정으로 JPA(jpa), 메모리(memory) 저장소 선택
+ */
+public interface RefreshTokenStore {
+
+    // 회원의 리프레시 토큰 저장(기존 토큰은 교체)
+    void save(Long memberId, String token, LocalDateTime expiredAt);
+
+    // 전달받은 토큰이 저장된 토큰과 일치하면 새 토큰으로 교체(rotate-on-use)
+    RefreshTokenRotationResult rotate(Long memberId, String presentedToken, String newToken, LocalDateTime expiredAt);
+
+    // 회원의 리프레시 토큰 삭제
+    void delete(Long memberId);
+
+    // 만료된 리프레시 토큰 삭제 후 삭제 개수 반환
+    int deleteExpired(LocalDateTime now);
+}
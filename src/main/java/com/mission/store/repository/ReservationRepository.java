@@ -1,17 +1,199 @@
 package com.mission.store.repository;
 
 import com.mission.store.domain.Reservation;
-import com.mission.store.domain.Store;
+import com.mission.store.dto.KioskReservation;
+import com.mission.store.dto.ReservationApprovalTarget;
+import com.mission.store.dto.ReservationDeadline;
+import com.mission.store.dto.ReservationSlotUsage;
+import com.mission.store.dto.ReservationSummary;
+import com.mission.store.type.ReservationApprovalStatus;
+import com.mission.store.type.ReservationVisitStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    // 예약 중복 여부 확인
-    boolean existsByReservationDateAndReservationTime(LocalDate reservationDate, String reservationTime);
+    // 매장, 날짜의 시간대별 예약 건수와 예약 인원 수 집계(유효한 예약만)
+    @Query("select r.reservationTime as reservationTime, count(r) as bookings, sum(r.numberOfCustomer) as guests"
+            + " from Reservation r"
+            + " where r.store.id = :storeId and r.reservationDate = :reservationDate"
+            + " and r.reservationVisitStatus in :visitStatuses and r.reservationApprovalStatus in :approvalStatuses"
+            + " group by r.reservationTime")
+    List<ReservationSlotUsage> findSlotUsages(
+            @Param("storeId") Long storeId
+            , @Param("reservationDate") LocalDate reservationDate
+            , @Param("visitStatuses") Collection<ReservationVisitStatus> visitStatuses
+            , @Param("approvalStatuses") Collection<ReservationApprovalStatus> approvalStatuses);
+
+    // 매장, 날짜의 사용 중인 예약 코드 조회(유효한 예약만)
+    @Query("select r.reservationCode from Reservation r"
+            + " where r.store.id = :storeId and r.reservationDate = :reservationDate"
+            + " and r.reservationVisitStatus in :visitStatuses and r.reservationApprovalStatus in :approvalStatuses")
+    List<String> findReservationCodes(
+            @Param("storeId") Long storeId
+            , @Param("reservationDate") LocalDate reservationDate
+            , @Param("visitStatuses") Collection<ReservationVisitStatus> visitStatuses
+            , @Param("approvalStatuses") Collection<ReservationApprovalStatus> approvalStatuses);
+
+    // 매장의 예약 일시 범위 예약 조회(예약 일시순, from 이상 to 미만, (store_id, reserved_at) 인덱스 사용)
+    @Query("select new com.mission.store.dto.ReservationSummary("
+            + "r.id, c.id, c.phone, c.nickname, r.reservationDate, r.reservationTime, r.reservationMemo"
+            + ", r.numberOfCustomer, r.reservationVisitStatus, r.reservationApprovalStatus)"
+            + " from Reservation r join r.customer c"
+            + " where r.store.id = :storeId and r.reservedAt >= :from and r.reservedAt < :to"
+            + " order by r.reservedAt asc, r.id asc")
+    List<ReservationSummary> findSummariesByStoreIdAndReservedAtRange(
+            @Param("storeId") Long storeId
+            , @Param("from") LocalDateTime from
+            , @Param("to") LocalDateTime to
+            , Pageable pageable);
+
+    // 매장의 예약 일시 범위 예약 수(from 이상 to 미만)
+    @Query("select count(r) from Reservation r"
+            + " where r.store.id = :storeId and r.reservedAt >= :from and r.reservedAt < :to")
+    long countByStoreIdAndReservedAtRange(
+            @Param("storeId") Long storeId
+            , @Param("from") LocalDateTime from
+            , @Param("to") LocalDateTime to);
+
+    // 가장 큰 예약 ID(예약 일시 백필 범위)
+    @Query("select coalesce(max(r.id), 0) from Reservation r")
+    long findMaxId();
+
+    // 예약 ID 범위(fromId 초과 toId 이하)의 예약 일시 백필(예약 날짜 + 예약 시간)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE reservation SET reserved_at = TIMESTAMP(reservation_date, reservation_time)"
+            + " WHERE id > :fromId AND id <= :toId AND reserved_at IS NULL"
+            + " AND reservation_date IS NOT NULL AND reservation_time IS NOT NULL"
+            , nativeQuery = true)
+    int backfillReservedAt(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    String RESERVATION_SUMMARY = "select new com.mission.store.dto.ReservationSummary("
+            + "r.id, c.id, c.phone, c.nickname, r.reservationDate, r.reservationTime, r.reservationMemo"
+            + ", r.numberOfCustomer, r.reservationVisitStatus, r.reservationApprovalStatus)"
+            + " from Reservation r join r.customer c"
+            + " where r.store.id = :storeId"
+            + " and (:fromDate is null or r.reservationDate >= :fromDate)"
+            + " and (:toDate is null or r.reservationDate <= :toDate)"
+            + " and (:approvalStatus is null or r.reservationApprovalStatus = :approvalStatus)"
+            + " and (:visitStatus is null or r.reservationVisitStatus = :visitStatus)";
+
+    String RESERVATION_ORDER = " order by r.reservationDate asc, r.reservationTime asc, r.id asc";
+
+    // 매장 예약 목록 첫 페이지 조회(예약 날짜, 시간순, 조건이 null 이면 제외)
+    @Query(RESERVATION_SUMMARY + RESERVATION_ORDER)
+    List<ReservationSummary> findSummariesByStoreId(
+            @Param("storeId") Long storeId
+            , @Param("fromDate") LocalDate fromDate
+            , @Param("toDate") LocalDate toDate
+            , @Param("approvalStatus") ReservationApprovalStatus approvalStatus
+            , @Param("visitStatus") ReservationVisitStatus visitStatus
+            , Pageable pageable);
+
+    // 매장 예약 목록 조회(예약 날짜, 시간순, (날짜, 시간, ID) 키셋 페이지네이션)
+    @Query(RESERVATION_SUMMARY
+            + " and (r.reservationDate > :cursorDate or (r.reservationDate = :cursorDate"
+            + " and (r.reservationTime > :cursorTime or (r.reservationTime = :cursorTime and r.id > :cursorId))))"
+            + RESERVATION_ORDER)
+    List<ReservationSummary> findSummariesByStoreIdAfter(
+            @Param("storeId") Long storeId
+            , @Param("fromDate") LocalDate fromDate
+            , @Param("toDate") LocalDate toDate
+            , @Param("approvalStatus") ReservationApprovalStatus approvalStatus
+            , @Param("visitStatus") ReservationVisitStatus visitStatus
+            , @Param("cursorDate") LocalDate cursorDate
+            , @Param("cursorTime") String cursorTime
+            , @Param("cursorId") long cursorId
+            , Pageable pageable);
+
+    // 예약 일괄 승인, 거절 대상 조회(매장, 예약 손님 엔티티를 조회하지 않는다.)
+    @Query("select r.id as id, r.store.id as storeId, r.reservationDate as reservationDate"
+            + ", r.reservationTime as reservationTime, r.numberOfCustomer as numberOfCustomer"
+            + ", r.reservationCode as reservationCode"
+            + ", r.reservationVisitStatus as reservationVisitStatus"
+            + ", r.reservationApprovalStatus as reservationApprovalStatus"
+            + " from Reservation r where r.id in :ids")
+    List<ReservationApprovalTarget> findApprovalTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 승인 대기 중인 예약 일괄 승인
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.reservationApprovalStatus = com.mission.store.type.ReservationApprovalStatus.APPROVED"
+            + ", r.updatedAt = :now"
+            + " where r.id in :ids and r.reservationApprovalStatus = com.mission.store.type.ReservationApprovalStatus.PENDING")
+    int approvePendingByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 승인 대기 중인 예약 일괄 거절(유니크 키의 시간대 점유 해제)
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.reservationApprovalStatus = com.mission.store.type.ReservationApprovalStatus.REJECTED"
+            + ", r.activeSlot = null, r.updatedAt = :now"
+            + " where r.id in :ids and r.reservationApprovalStatus = com.mission.store.type.ReservationApprovalStatus.PENDING")
+    int rejectPendingByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 승인 후 방문하지 않은 예약 스트리밍 조회(MySQL 스트리밍 결과셋, 노쇼 타이밍 휠 재구성용)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select r.id as id, r.reservationDate as reservationDate, r.reservationTime as reservationTime"
+            + " from Reservation r"
+            + " where r.reservationApprovalStatus = com.mission.store.type.ReservationApprovalStatus.APPROVED"
+            + " and r.reservationVisitStatus = com.mission.store.type.ReservationVisitStatus.NOT_VISITED")
+    Stream<ReservationDeadline> streamApprovedNotVisited();
+
+    // 승인 후 방문하지 않은 예약 일괄 노쇼 처리(유니크 키의 시간대 점유 해제)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.reservationVisitStatus = com.mission.store.type.ReservationVisitStatus.CANCELLED_NO_SHOW"
+            + ", r.activeSlot = null, r.updatedAt = :now"
+            + " where r.id in :ids"
+            + " and r.reservationApprovalStatus = com.mission.store.type.ReservationApprovalStatus.APPROVED"
+            + " and r.reservationVisitStatus = com.mission.store.type.ReservationVisitStatus.NOT_VISITED")
+    int markNoShowByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 매장, 날짜의 승인 후 방문하지 않은 예약 조회(키오스크 방문 확인 인덱스 적재용)
+    @Query("select r.id as id, r.reservationCode as reservationCode, r.reservationTime as reservationTime"
+            + ", r.numberOfCustomer as numberOfCustomer"
+            + " from Reservation r"
+            + " where r.store.id = :storeId and r.reservationDate = :reservationDate"
+            + " and r.reservationApprovalStatus = com.mission.store.type.ReservationApprovalStatus.APPROVED"
+            + " and r.reservationVisitStatus = com.mission.store.type.ReservationVisitStatus.NOT_VISITED")
+    List<KioskReservation> findKioskReservations(
+            @Param("storeId") Long storeId
+            , @Param("reservationDate") LocalDate reservationDate);
+
+    // 승인 후 방문하지 않은 예약 일괄 방문 처리(키오스크 방문 확인 반영)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.reservationVisitStatus = com.mission.store.type.ReservationVisitStatus.VISITED_WITHIN_RESERVATION_TIME"
+            + ", r.updatedAt = :now"
+            + " where r.id in :ids"
+            + " and r.reservationApprovalStatus = com.mission.store.type.ReservationApprovalStatus.APPROVED"
+            + " and r.reservationVisitStatus = com.mission.store.type.ReservationVisitStatus.NOT_VISITED")
+    int markVisitedByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 예약 손님 정보를 포함한 예약 조회
+    @EntityGraph(attributePaths = "customer")
+    Optional<Reservation> findWithCustomerById(Long id);
+
+    // 매장, 매장 점주 정보를 포함한 예약 조회
+    @EntityGraph(attributePaths = {"store", "store.owner"})
+    Optional<Reservation> findWithStoreOwnerById(Long id);
 
-    // 매장과 관련된 모든 예약 조회
-    List<Reservation> findByStore(Store store);
+    // 매장(점주 포함), 예약 손님 정보를 포함한 예약 조회
+    @EntityGraph(attributePaths = {"store", "store.owner", "customer"})
+    Optional<Reservation> findWithStoreAndCustomerById(Long id);
 }
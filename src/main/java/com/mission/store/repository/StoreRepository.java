@@ -2,10 +2,22 @@ package com.mission.store.repository;
 
 import com.mission.store.domain.Member;
 import com.mission.store.domain.Store;
+import com.mission.store.dto.StoreSummary;
 import com.mission.store.type.StoreStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
@@ -19,6 +31,55 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     List<Store> findAllByNameContainingIgnoreCase(String name);
 
     // 점주가 관리하는 매장 조회
+    @EntityGraph(attributePaths = "owner")
     List<Store> findAllByOwner(Member owner);
 
+    // 점주 정보를 포함한 매장 조회
+    @EntityGraph(attributePaths = "owner")
+    Optional<Store> findWithOwnerById(Long id);
+
+    // 매장 중 점주(이메일)가 관리하는 매장 ID 조회
+    @Query("select s.id from Store s where s.id in :ids and s.owner.email = :email")
+    List<Long> findIdsByIdInAndOwnerEmail(@Param("ids") Collection<Long> ids, @Param("email") String email);
+
+    String STORE_SUMMARY = "select new com.mission.store.dto.StoreSummary("
+            + "s.id, s.owner.id, s.owner.nickname, s.name, s.address, s.description, s.storeStatus"
+            + ", s.lat, s.lon, s.reviewCount, s.averageRating, s.businessHours, s.breakTime)"
+            + " from Store s";
+
+    // 매장 목록 조회(등록순, 키셋 페이지네이션)
+    @Query(STORE_SUMMARY + " where s.id > :cursorId order by s.id asc")
+    List<StoreSummary> findSummariesAfterId(@Param("cursorId") long cursorId, Pageable pageable);
+
+    // 매장 목록 첫 페이지 조회(평점 높은순)
+    @Query(STORE_SUMMARY + " order by s.averageRating desc, s.id asc")
+    List<StoreSummary> findSummariesOrderByRating(Pageable pageable);
+
+    // 매장 목록 조회(평점 높은순, 키셋 페이지네이션)
+    @Query(STORE_SUMMARY + " where s.averageRating < :rating or (s.averageRating = :rating and s.id > :cursorId)"
+            + " order by s.averageRating desc, s.id asc")
+    List<StoreSummary> findSummariesByRatingAfter(
+            @Param("rating") double rating
+            , @Param("cursorId") long cursorId
+            , Pageable pageable);
+
+    // 위도, 경도 범위 내 매장 조회(근처 매장 인덱스 구성 전 사용)
+    @Query(STORE_SUMMARY + " where s.storeStatus = :storeStatus"
+            + " and s.lat between :minLat and :maxLat and s.lon between :minLon and :maxLon")
+    List<StoreSummary> findSummariesInBoundingBox(
+            @Param("storeStatus") StoreStatus storeStatus
+            , @Param("minLat") double minLat
+            , @Param("maxLat") double maxLat
+            , @Param("minLon") double minLon
+            , @Param("maxLon") double maxLon);
+
+    // 매장 조회(프로젝션)
+    @Query(STORE_SUMMARY + " where s.id = :id")
+    Optional<StoreSummary> findSummaryById(@Param("id") Long id);
+
+    // 전체 매장 스트리밍 조회(MySQL 스트리밍 결과셋, 인메모리 인덱스 재구성용)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(STORE_SUMMARY)
+    Stream<StoreSummary> streamAllSummaries();
+
 }
\ No newline at end of file
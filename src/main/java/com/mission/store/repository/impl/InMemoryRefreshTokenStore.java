@@ -0,0 +1,207 @@
+package com.mission.store.repository.impl;
+
+import com.mission.store.jwt.TokenDigests;
+import com.mission.store.repository.RefreshTokenStore;
+import com.mission.store.type.RefreshTokenRotationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 메모리 리프레시 토큰 저장소
+ * -> 회원 ID 기준으로 나눈 스트라이프 단위 잠금, 토큰은 SHA-256 다이제스트로만 보관
+ * -> 설정된 경로가 있으면 주기적으로 스냅샷을 디스크에 기록하고 시작 시 복원
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "spring.jwt.refresh-token-store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int STRIPE_COUNT = 64;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    @Value("${spring.jwt.refresh-token-snapshot.path:}")
+    private String snapshotPath;
+
+    public InMemoryRefreshTokenStore() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public void save(Long memberId, String token, LocalDateTime expiredAt) {
+        Stripe stripe = stripeFor(memberId);
+        synchronized (stripe) {
+            stripe.tokens.put(memberId, new StoredToken(TokenDigests.sha256(token), toEpochMilli(expiredAt)));
+        }
+    }
+
+    @Override
+    public RefreshTokenRotationResult rotate(Long memberId, String presentedToken, String newToken, LocalDateTime expiredAt) {
+        byte[] presentedHash = TokenDigests.sha256(presentedToken);
+        byte[] newHash = TokenDigests.sha256(newToken);
+
+        Stripe stripe = stripeFor(memberId);
+        synchronized (stripe) {
+            StoredToken storedToken = stripe.tokens.get(memberId);
+            if (storedToken == null) {
+                return RefreshTokenRotationResult.NOT_FOUND;
+            }
+
+            if (storedToken.expiredAt < System.currentTimeMillis()) {
+                stripe.tokens.remove(memberId);
+                return RefreshTokenRotationResult.EXPIRED;
+            }
+
+            if (!MessageDigest.isEqual(storedToken.hash, presentedHash)) {
+                return RefreshTokenRotationResult.MISMATCHED;
+            }
+
+            stripe.tokens.put(memberId, new StoredToken(newHash, toEpochMilli(expiredAt)));
+            return RefreshTokenRotationResult.ROTATED;
+        }
+    }
+
+    @Override
+    public void delete(Long memberId) {
+        Stripe stripe = stripeFor(memberId);
+        synchronized (stripe) {
+            stripe.tokens.remove(memberId);
+        }
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        long nowMillis = toEpochMilli(now);
+        int deleted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<StoredToken> iterator = stripe.tokens.values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().expiredAt < nowMillis) {
+                        iterator.remove();
+                        deleted++;
+                    }
+                }
+            }
+        }
+
+        return deleted;
+    }
+
+    /** 시작 시 스냅샷 복원 */
+    @PostConstruct
+    public void restoreSnapshot() {
+        if (!StringUtils.hasText(snapshotPath) || !Files.exists(Paths.get(snapshotPath))) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Paths.get(snapshotPath))))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("unsupported refresh token snapshot version. path: {}", snapshotPath);
+                return;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long memberId = in.readLong();
+                long expiredAt = in.readLong();
+                byte[] hash = new byte[in.readUnsignedByte()];
+                in.readFully(hash);
+
+                if (expiredAt >= now) {
+                    Stripe stripe = stripeFor(memberId);
+                    synchronized (stripe) {
+                        stripe.tokens.put(memberId, new StoredToken(hash, expiredAt));
+                    }
+                    restored++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("failed to restore refresh token snapshot. path: {}", snapshotPath, e);
+        }
+
+        log.info("refresh token snapshot restored. count: {}", restored);
+    }
+
+    /** 주기적으로 스냅샷 기록(임시 파일 기록 후 교체) */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${spring.jwt.refresh-token-snapshot.interval-ms:60000}")
+    public void writeSnapshot() {
+        if (!StringUtils.hasText(snapshotPath)) {
+            return;
+        }
+
+        Path target = Paths.get(snapshotPath);
+        Path temp = Paths.get(snapshotPath + ".tmp");
+        try {
+            Map<Long, StoredToken> copy = new HashMap<>();
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    copy.putAll(stripe.tokens);
+                }
+            }
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(copy.size());
+                for (Map.Entry<Long, StoredToken> entry : copy.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    out.writeLong(entry.getValue().expiredAt);
+                    out.writeByte(entry.getValue().hash.length);
+                    out.write(entry.getValue().hash);
+                }
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("failed to write refresh token snapshot. path: {}", snapshotPath, e);
+        }
+    }
+
+    private Stripe stripeFor(long memberId) {
+        return stripes[(int) ((memberId ^ (memberId >>> 32)) & (STRIPE_COUNT - 1))];
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class Stripe {
+
+        private final Map<Long, StoredToken> tokens = new HashMap<>();
+    }
+
+    private static final class StoredToken {
+
+        private final byte[] hash;
+        private final long expiredAt;
+
+        private StoredToken(byte[] hash, long expiredAt) {
+            this.hash = hash;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mission.store.repository.impl;
+
+import com.mission.store.domain.RefreshToken;
+import com.mission.store.repository.RefreshTokenRepository;
+import com.mission.store.repository.RefreshTokenStore;
+import com.mission.store.type.RefreshTokenRotationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA(refresh_token 테이블) 리프레시 토큰 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jwt.refresh-token-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(Long memberId, String token, LocalDateTime expiredAt) {
+        RefreshToken currentToken = refreshTokenRepository.findByKey(memberId).orElse(null);
+        if (currentToken != null) {
+            refreshTokenRepository.save(currentToken.updateToken(token, expiredAt));
+        } else {
+            refreshTokenRepository.save(
+                    RefreshToken.builder()
+                            .key(memberId)
+                            .token(token)
+                            .expiredAt(expiredAt)
+                            .build());
+        }
+    }
+
+    @Override
+    @Transactional
+    public RefreshTokenRotationResult rotate(Long memberId, String presentedToken, String newToken, LocalDateTime expiredAt) {
+        RefreshToken currentToken = refreshTokenRepository.findByKey(memberId).orElse(null);
+        if (currentToken == null) {
+            return RefreshTokenRotationResult.NOT_FOUND;
+        }
+
+        if (currentToken.getExpiredAt() != null && currentToken.getExpiredAt().isBefore(LocalDateTime.now())) {
+            return RefreshTokenRotationResult.EXPIRED;
+        }
+
+        if (!currentToken.getToken().equals(presentedToken)) {
+            return RefreshTokenRotationResult.MISMATCHED;
+        }
+
+        refreshTokenRepository.save(currentToken.updateToken(newToken, expiredAt));
+        return RefreshTokenRotationResult.ROTATED;
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long memberId) {
+        refreshTokenRepository.deleteByKey(memberId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now) {
+        return refreshTokenRepository.deleteAllByExpiredAtBefore(now);
+    }
+}
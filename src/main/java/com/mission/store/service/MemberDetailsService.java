@@ -3,7 +3,6 @@ package com.mission.store.service;
 import com.mission.store.domain.Member;
 import com.mission.store.domain.MemberDetails;
 import com.mission.store.repository.MemberRepository;
-import com.mission.store.type.MemberStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,17 +14,15 @@ import org.springframework.stereotype.Service;
 public class MemberDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final MemberStatusCache memberStatusCache;
 
     @Override
     public UserDetails loadUserByUsername(String phone) throws UsernameNotFoundException {
         Member member = memberRepository.findByPhone(phone)
                 .orElseThrow(() -> new UsernameNotFoundException("회원 정보가 존재하지 않습니다. 토큰을 확인해주세요."));
 
-        // 정지된 계정일 경우 예외 처리
-        if (member.getMemberStatus() == MemberStatus.BLOCKED) {
-            /* 정지된 계정입니다. */
-            throw new RuntimeException(MemberStatus.BLOCKED.getDescription());
-        }
+        // 정지 또는 탈퇴된 계정일 경우 예외 처리(토큰 클레임 인증과 같은 기준)
+        memberStatusCache.validateAuthenticatable(member.getId(), member.getMemberStatus());
 
         return new MemberDetails(member);
     }
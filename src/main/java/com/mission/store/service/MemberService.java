@@ -4,6 +4,7 @@ import com.mission.store.dto.MemberLogin;
 import com.mission.store.dto.MemberRegistration;
 import com.mission.store.dto.TokenDto;
 import com.mission.store.dto.TokenRequestDto;
+import com.mission.store.type.MemberStatus;
 
 public interface MemberService {
     void register(MemberRegistration request);
@@ -11,4 +12,10 @@ public interface MemberService {
     MemberLogin.Response login(MemberLogin.Request request);
 
     TokenDto refreshToken(TokenRequestDto request);
+
+    void logout(String authorization);
+
+    void withdraw();
+
+    void changeMemberStatus(Long memberId, MemberStatus memberStatus);
 }
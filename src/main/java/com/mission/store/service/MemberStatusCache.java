@@ -0,0 +1,96 @@
+package com.mission.store.service;
+
+import com.mission.store.cache.ExpiringLruCache;
+import com.mission.store.repository.MemberRepository;
+import com.mission.store.type.MemberStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.Optional;
+
+/**
+ * 회원 상태(활성화, 정지, 탈퇴) 캐시
+ * -> 토큰 기반 인증 시 요청마다 회원을 조회하지 않고, 캐시 미스일 때만 DB 조회
+ * -> 토큰 클레임 인증, 회원 조회 인증 모두 같은 기준(정지, 탈퇴 거부)으로 인증 가능 여부 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberStatusCache {
+
+    private final MemberRepository memberRepository;
+
+    @Value("${spring.jwt.member-status-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${spring.jwt.member-status-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private ExpiringLruCache<Long, MemberStatus> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new ExpiringLruCache<>(maxSize, ttlSeconds * 1000L);
+    }
+
+    /** 회원 상태 조회(캐시 미스일 경우 DB 조회) */
+    public Optional<MemberStatus> getMemberStatus(Long memberId) {
+        MemberStatus memberStatus = cache.get(memberId);
+        if (memberStatus != null) {
+            return Optional.of(memberStatus);
+        }
+
+        Optional<MemberStatus> loaded = memberRepository.findMemberStatusById(memberId);
+        loaded.ifPresent(status -> cache.put(memberId, status));
+        return loaded;
+    }
+
+    /** 인증 가능한 회원 상태 조회(캐시 미스일 경우 DB 조회, 정지 또는 탈퇴된 계정일 경우 예외) */
+    public MemberStatus getAuthenticatableStatus(Long memberId) {
+        MemberStatus memberStatus = getMemberStatus(memberId)
+                .orElseThrow(() -> new UsernameNotFoundException("회원 정보가 존재하지 않습니다. 토큰을 확인해주세요."));
+        validateAuthenticatable(memberStatus);
+        return memberStatus;
+    }
+
+    /** DB 에서 조회한 회원 상태로 캐시 갱신 후 인증 가능 여부 확인(정지 또는 탈퇴된 계정일 경우 예외) */
+    public void validateAuthenticatable(Long memberId, MemberStatus memberStatus) {
+        cache.put(memberId, memberStatus);
+        validateAuthenticatable(memberStatus);
+    }
+
+    private static void validateAuthenticatable(MemberStatus memberStatus) {
+        if (memberStatus == MemberStatus.BLOCKED || memberStatus == MemberStatus.WITHDRAWN) {
+            throw new RuntimeException(memberStatus.getDescription());
+        }
+    }
+
+    /** 회원 상태 변경 시 캐시 갱신 */
+    public void update(Long memberId, MemberStatus memberStatus) {
+        cache.put(memberId, memberStatus);
+    }
+
+    /** 회원 상태 변경 시 캐시 갱신(현재 트랜잭션이 커밋된 이후, 트랜잭션 밖이면 즉시 갱신) */
+    public void updateAfterCommit(Long memberId, MemberStatus memberStatus) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(memberId, memberStatus);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(memberId, memberStatus);
+            }
+        });
+    }
+
+    /** 회원 상태 캐시 무효화 */
+    public void invalidate(Long memberId) {
+        cache.invalidate(memberId);
+    }
+}
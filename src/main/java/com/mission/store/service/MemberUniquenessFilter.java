@@ -0,0 +1,103 @@
+package com.mission.store.service;
+
+import com.mission.store.dto.MemberUniqueKeys;
+import com.mission.store.index.BloomFilter;
+import com.mission.store.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 회원가입 중복 확인(이메일, 전화번호, 닉네임)용 블룸 필터
+ * -> 세 값 모두 존재하지 않는 것이 확실하면 DB 조회 생략
+ * -> 시작 시 회원 테이블을 스트리밍하여 재구성하고, 회원 저장 시 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberUniquenessFilter {
+
+    private final MemberRepository memberRepository;
+
+    @Value("${store.member-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${store.member-filter.fpp:0.01}")
+    private double fpp;
+
+    private volatile Filters filters;
+    private volatile boolean ready;
+
+    /** 시작 시 회원 테이블 스트리밍으로 필터 재구성 */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        ready = false;
+        // 재구성 중 저장되는 회원도 새 필터에 반영되도록 먼저 교체
+        Filters newFilters = new Filters(expectedInsertions, fpp);
+        filters = newFilters;
+
+        long count = 0;
+        try (Stream<MemberUniqueKeys> members = memberRepository.streamAllUniqueKeys()) {
+            for (MemberUniqueKeys member : (Iterable<MemberUniqueKeys>) members::iterator) {
+                newFilters.put(member.getEmail(), member.getPhone(), member.getNickname());
+                count++;
+            }
+        }
+
+        ready = true;
+        log.info("member uniqueness filter rebuilt. count: {}", count);
+    }
+
+    /** 이메일, 전화번호, 닉네임 중 이미 존재할 가능성이 있는 값이 있는지 확인 */
+    public boolean mightExist(String email, String phone, String nickname) {
+        Filters current = filters;
+        if (!ready || current == null) {
+            // 필터 구성 전에는 항상 DB 확인
+            return true;
+        }
+
+        return current.email.mightContain(normalize(email))
+                || current.phone.mightContain(normalize(phone))
+                || current.nickname.mightContain(normalize(nickname));
+    }
+
+    /** 저장된 회원 반영 */
+    public void put(String email, String phone, String nickname) {
+        Filters current = filters;
+        if (current != null) {
+            current.put(email, phone, nickname);
+        }
+    }
+
+    /** DB 비교 규칙(대소문자 구분 없음)과 맞추기 위한 정규화 */
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Filters {
+
+        private final BloomFilter email;
+        private final BloomFilter phone;
+        private final BloomFilter nickname;
+
+        private Filters(long expectedInsertions, double fpp) {
+            this.email = new BloomFilter(expectedInsertions, fpp);
+            this.phone = new BloomFilter(expectedInsertions, fpp);
+            this.nickname = new BloomFilter(expectedInsertions, fpp);
+        }
+
+        private void put(String email, String phone, String nickname) {
+            this.email.put(normalize(email));
+            this.phone.put(normalize(phone));
+            this.nickname.put(normalize(nickname));
+        }
+    }
+}
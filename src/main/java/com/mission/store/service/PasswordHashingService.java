@@ -0,0 +1,164 @@
+package com.mission.store.service;
+
+import com.mission.store.exception.MemberException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.mission.store.type.ErrorCode.PASSWORD_HASHING_UNAVAILABLE;
+
+/**
+ * 비밀번호 암호화(BCrypt) 전용 스레드 풀
+ * -> 로그인, 회원가입이 몰려도 요청 스레드 전체가 해시 계산에 묶이지 않도록 동시 실행 수와 대기열을 제한
+ * -> 대기열이 가득 차면 즉시 503 응답
+ * -> 주기마다 해당 구간의 암호화 건수, 거절 건수, 평균 암호화 시간, 평균 대기 시간, 대기열 크기를 로그로 기록
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${store.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${store.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${store.password-hashing.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    // 마지막 통계 기록 시점의 누적 값(statsLock 으로 보호)
+    private final Object statsLock = new Object();
+    private long loggedHashCount;
+    private long loggedHashNanos;
+    private long loggedQueueWaitNanos;
+    private long loggedRejectedCount;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                poolSize
+                , poolSize
+                , 0L
+                , TimeUnit.MILLISECONDS
+                , new ArrayBlockingQueue<>(queueCapacity)
+                , runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+                , new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /** 비밀번호 암호화 */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /** 입력받은 비밀번호와 암호화된 비밀번호 일치 여부 확인 */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /** 설정된 작업 계수(strength)보다 낮게 암호화되어 재암호화가 필요한지 확인 */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                    hashCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new MemberException(PASSWORD_HASHING_UNAVAILABLE);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new MemberException(PASSWORD_HASHING_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new MemberException(PASSWORD_HASHING_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /** 현재 대기열 크기 */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /** 직전 기록 이후 구간의 암호화 통계 기록(요청이 없던 구간은 생략) */
+    @Scheduled(fixedDelayString = "${store.password-hashing.stats-log-interval-ms:60000}")
+    public void logStats() {
+        synchronized (statsLock) {
+            long count = hashCount.sum();
+            long nanos = hashNanos.sum();
+            long waitNanos = queueWaitNanos.sum();
+            long rejected = rejectedCount.sum();
+
+            long intervalCount = count - loggedHashCount;
+            long intervalRejected = rejected - loggedRejectedCount;
+            if (intervalCount > 0 || intervalRejected > 0) {
+                log.info("password hashing. hashed: {}, rejected: {}, avgHashMs: {}, avgQueueWaitMs: {}, queueSize: {}"
+                        , intervalCount, intervalRejected
+                        , String.format("%.1f", intervalCount == 0 ? 0.0 : (nanos - loggedHashNanos) / 1_000_000.0 / intervalCount)
+                        , String.format("%.1f", intervalCount == 0 ? 0.0 : (waitNanos - loggedQueueWaitNanos) / 1_000_000.0 / intervalCount)
+                        , getQueueSize());
+            }
+
+            loggedHashCount = count;
+            loggedHashNanos = nanos;
+            loggedQueueWaitNanos = waitNanos;
+            loggedRejectedCount = rejected;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.mission.store.service;
 
-import com.mission.store.dto.ReservationDto;
+import com.mission.store.dto.KioskVisitUpload;
+import com.mission.store.dto.ReservationBulkApproval;
 import com.mission.store.dto.ReservationRegistration;
+import com.mission.store.dto.ReservationSlice;
+import com.mission.store.dto.StoreAvailability;
 import com.mission.store.type.ReservationApprovalStatus;
+import com.mission.store.type.ReservationVisitStatus;
 
-import java.util.List;
+import java.time.LocalDate;
 
 public interface ReservationService {
     ReservationRegistration.Response reserve(ReservationRegistration.Request request);
@@ -13,7 +17,19 @@ public interface ReservationService {
 
     void confirmVisit(Long reservationId, String reservationCode);
 
-    List<ReservationDto> getReservationsByStoreId(Long storeId);
+    void confirmVisitByCode(Long storeId, String reservationCode);
+
+    byte[] getKioskManifest(Long storeId, LocalDate date);
+
+    KioskVisitUpload.Response uploadKioskVisits(Long storeId, KioskVisitUpload.Request request);
+
+    ReservationSlice getReservationsByStoreId(Long storeId, LocalDate fromDate, LocalDate toDate,
+                                              ReservationApprovalStatus approvalStatus,
+                                              ReservationVisitStatus visitStatus, String cursor, int size);
+
+    StoreAvailability getAvailability(Long storeId, LocalDate date, int partySize);
 
     void approveOrRejectReservation(Long reservationId, ReservationApprovalStatus approvalStatus);
+
+    ReservationBulkApproval.Response approveOrRejectReservations(ReservationBulkApproval.Request request);
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.mission.store.service;
+
+import com.mission.store.repository.ReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 일시(reserved_at) 일회성 백필
+ * -> enabled 인 경우 시작 후 별도 스레드에서 예약 ID 범위(chunk-size)마다 UPDATE 한 번씩 실행
+ *    (범위마다 트랜잭션을 나누므로 락을 오래 잡지 않으며, 중단되어도 reserved_at 이 없는 예약만 다시 처리)
+ * -> 새 예약은 저장 시 예약 일시가 채워지므로 시작 시점의 가장 큰 예약 ID 까지만 처리
+ */
+@Slf4j
+@Component
+public class ReservedAtBackfill {
+
+    private final ReservationRepository reservationRepository;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    public ReservedAtBackfill(ReservationRepository reservationRepository,
+                              @Value("${store.reserved-at-backfill.enabled:false}") boolean enabled,
+                              @Value("${store.reserved-at-backfill.chunk-size:5000}") int chunkSize,
+                              @Value("${store.reserved-at-backfill.pause-ms:50}") long pauseMillis) {
+        this.reservationRepository = reservationRepository;
+        this.enabled = enabled;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.pauseMillis = Math.max(pauseMillis, 0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        Thread thread = new Thread(this::backfill, "reserved-at-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** 예약 ID 범위별 예약 일시 백필 */
+    void backfill() {
+        long maxId = reservationRepository.findMaxId();
+        long updated = 0;
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+                updated += reservationRepository.backfillReservedAt(fromId, Math.min(fromId + chunkSize, maxId));
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+            log.info("reserved_at backfill completed. maxId: {}, updated: {}, elapsed: {}ms"
+                    , maxId, updated, System.currentTimeMillis() - startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("reserved_at backfill interrupted. updated: {}", updated);
+        } catch (RuntimeException e) {
+            log.error("reserved_at backfill failed. updated: {}", updated, e);
+        }
+    }
+}
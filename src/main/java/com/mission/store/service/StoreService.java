@@ -1,19 +1,36 @@
 package com.mission.store.service;
 
+import com.mission.store.dto.NearbyStore;
+import com.mission.store.dto.StoreCluster;
 import com.mission.store.dto.StoreDto;
 import com.mission.store.dto.StoreRegistration;
 import com.mission.store.dto.StoreSearchResult;
+import com.mission.store.dto.StoreSlice;
+import com.mission.store.dto.StoreSuggestion;
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.type.StoreSortType;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface StoreService {
     StoreRegistration.Response registerStore(Long memberId, StoreRegistration.Request request);
 
-    List<StoreDto> getStores();
+    StoreSlice getStores(StoreSortType sortType, String cursor, int size);
 
     StoreDto getStoreById(Long storeId);
 
-    List<StoreSearchResult> searchStoresByName(String name);
+    List<StoreSearchResult> searchStoresByName(String name, int size);
+
+    List<StoreSummary> getOpenStores(LocalDateTime at, String name, Double lat, Double lon, int radius, int limit);
+
+    List<StoreSuggestion> autocompleteStoreNames(String query, int limit);
+
+    List<NearbyStore> getNearbyStores(double lat, double lon, int radius, int limit);
+
+    List<StoreCluster> getStoreClusters(String bbox, int zoom);
+
+    void closeStore(Long storeId);
 
     List<StoreDto> getStoresByOwnerId(Long memberId);
 }
\ No newline at end of file
@@ -1,25 +1,33 @@
 package com.mission.store.service.impl;
 
 import com.mission.store.domain.Member;
-import com.mission.store.domain.RefreshToken;
+import com.mission.store.domain.MemberDetails;
 import com.mission.store.dto.MemberLogin;
 import com.mission.store.dto.MemberRegistration;
+import com.mission.store.dto.MemberUniqueKeys;
 import com.mission.store.dto.TokenDto;
 import com.mission.store.dto.TokenRequestDto;
 import com.mission.store.exception.MemberException;
 import com.mission.store.exception.RefreshTokenException;
 import com.mission.store.jwt.JwtProvider;
+import com.mission.store.jwt.TokenRevocationList;
 import com.mission.store.repository.MemberRepository;
-import com.mission.store.repository.RefreshTokenRepository;
+import com.mission.store.repository.RefreshTokenStore;
 import com.mission.store.service.MemberService;
+import com.mission.store.service.MemberStatusCache;
+import com.mission.store.service.MemberUniquenessFilter;
+import com.mission.store.service.PasswordHashingService;
 import com.mission.store.type.MemberStatus;
+import com.mission.store.type.RefreshTokenRotationResult;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static com.mission.store.type.ErrorCode.*;
 
@@ -28,43 +36,59 @@ import static com.mission.store.type.ErrorCode.*;
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtProvider jwtProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final MemberUniquenessFilter memberUniquenessFilter;
+    private final MemberStatusCache memberStatusCache;
+    private final TokenRevocationList tokenRevocationList;
 
-    /** 회원가입 */
+    /**
+     * 회원가입
+     * -> 비밀번호 암호화는 대기열에서 기다릴 수 있으므로 트랜잭션 밖에서 처리(DB 커넥션을 붙잡지 않는다.)
+     * -> 중복 확인 조회, 회원 저장은 각각 짧은 트랜잭션으로 처리
+     */
     @Override
-    @Transactional
     public void register(MemberRegistration request) {
         // 1. 유효성 검사(이메일, 전화번호, 닉네임 중복 체크)
-        validateEmailNotExist(request.getEmail());
-        validatePhoneNotExist(request.getPhone());
-        validateNicknameNotExist(request.getNickname());
+        validateMemberNotExist(request.getEmail(), request.getPhone(), request.getNickname());
 
         // 2. 패스워드 암호화 후 회워 정보 저장
-        String encryptionPassword = passwordEncoder.encode(request.getPassword());
+        String encryptionPassword = passwordHashingService.encode(request.getPassword());
         saveMember(request, encryptionPassword);
     }
 
+    /** 이메일, 전화번호, 닉네임 중복 체크 -> 블룸 필터에서 존재 가능성이 있을 때만 DB 조회(1회) */
+    private void validateMemberNotExist(String email, String phone, String nickname) {
+        if (!memberUniquenessFilter.mightExist(email, phone, nickname)) {
+            return;
+        }
+
+        List<MemberUniqueKeys> members = memberRepository.findUniqueKeysByEmailOrPhoneOrNickname(email, phone, nickname);
+        validateEmailNotExist(members, email);
+        validatePhoneNotExist(members, phone);
+        validateNicknameNotExist(members, nickname);
+    }
+
     /** 이메일 중복 체크 */
-    private void validateEmailNotExist(String email) {
-        memberRepository.findByEmail(email).ifPresent(member -> {
+    private void validateEmailNotExist(List<MemberUniqueKeys> members, String email) {
+        if (members.stream().anyMatch(member -> member.getEmail().equalsIgnoreCase(email))) {
             throw new MemberException(ALREADY_EXISTS_EMAIL);
-        });
+        }
     }
 
     /** 전화번호 중복 체크 */
-    private void validatePhoneNotExist(String phone) {
-        memberRepository.findByPhone(phone).ifPresent(member -> {
+    private void validatePhoneNotExist(List<MemberUniqueKeys> members, String phone) {
+        if (members.stream().anyMatch(member -> member.getPhone().equalsIgnoreCase(phone))) {
             throw new MemberException(ALREADY_EXISTS_PHONE);
-        });
+        }
     }
 
     /** 닉네임 중복 체크 */
-    private void validateNicknameNotExist(String nickname) {
-        memberRepository.findByNickname(nickname).ifPresent(member -> {
+    private void validateNicknameNotExist(List<MemberUniqueKeys> members, String nickname) {
+        if (members.stream().anyMatch(member -> member.getNickname().equalsIgnoreCase(nickname))) {
             throw new MemberException(ALREADY_EXISTS_NICKNAME);
-        });
+        }
     }
 
     /** 회원 정보 저장 */
@@ -78,10 +102,16 @@ public class MemberServiceImpl implements MemberService {
                 .memberRole(request.getMemberRole())
                 .registeredAt(LocalDateTime.now())
                 .build());
+
+        memberUniquenessFilter.put(request.getEmail(), request.getPhone(), request.getNickname());
     }
 
+    /**
+     * 로그인
+     * -> 회원 조회 후 비밀번호 확인, 재암호화는 트랜잭션 밖에서 처리(DB 커넥션을 붙잡지 않는다.)
+     * -> 재암호화한 비밀번호, 리프레시 토큰은 각각 짧은 트랜잭션으로 저장
+     */
     @Override
-    @Transactional
     public MemberLogin.Response login(MemberLogin.Request request) {
         // 1. 이메일 정보 확인
         Member member = getMemberByEmail(request.getEmail());
@@ -89,22 +119,13 @@ public class MemberServiceImpl implements MemberService {
         // 2. 입력받은 비밀번호가 올바른지 확인
         validatePassword(request.getPassword(), member.getPassword());
 
+        // 작업 계수(strength)가 변경된 경우 비밀번호 재암호화
+        upgradePasswordEncoding(member, request.getPassword());
+
         // 3. 토큰 발급
         TokenDto tokenDto = generateToken(member);
-        String refreshToken = tokenDto.getRefreshToken();
         Long memberId = member.getId();
-
-        RefreshToken currentToken = refreshTokenRepository.findByKey(memberId).orElse(null);
-        if (currentToken != null) {
-            currentToken.updateToken(refreshToken);
-            refreshTokenRepository.save(currentToken);
-        } else {
-            refreshTokenRepository.save(
-                    RefreshToken.builder()
-                            .key(memberId)
-                            .token(refreshToken)
-                            .build());
-        }
+        refreshTokenStore.save(memberId, tokenDto.getRefreshToken(), jwtProvider.getRefreshTokenExpiredAt());
 
         // 4. 로그인 응답 생성
         return createLoginResponse(memberId, tokenDto);
@@ -118,14 +139,23 @@ public class MemberServiceImpl implements MemberService {
 
     /** 입력받은 비밀번호가 올바른지 확인 */
     private void validatePassword(String inputPassword, String encodedPassword) {
-        if (!passwordEncoder.matches(inputPassword, encodedPassword)) {
+        if (!passwordHashingService.matches(inputPassword, encodedPassword)) {
             throw new MemberException(INVALID_PASSWORD);
         }
     }
 
+    /** 설정된 작업 계수보다 낮게 암호화된 비밀번호 재암호화(조회 이후 변경된 비밀번호는 덮어쓰지 않는다.) */
+    private void upgradePasswordEncoding(Member member, String inputPassword) {
+        if (passwordHashingService.upgradeEncoding(member.getPassword())) {
+            String encryptionPassword = passwordHashingService.encode(inputPassword);
+            memberRepository.updatePasswordIfUnchanged(member.getId(), member.getPassword()
+                    , encryptionPassword, LocalDateTime.now());
+        }
+    }
+
     /** 토큰 생성 */
     private TokenDto generateToken(Member member) {
-        return jwtProvider.GenerateToken(member.getPhone(), member.getMemberRole());
+        return jwtProvider.GenerateToken(member.getId(), member.getEmail(), member.getPhone(), member.getMemberRole());
     }
 
     /** 로그인 응답 생성 */
@@ -148,18 +178,19 @@ public class MemberServiceImpl implements MemberService {
         Authentication authentication = jwtProvider.getAuthentication(accessToken);
 
         // 3. 서브젝트(subject == phone)로 회원 조회를 통해 토큰 서브젝트가 올바른지 확인
-        Member member = getMemberByPhone(authentication.getName());
-
-        // 4. 저장된 리프레시 토큰이 있는지 확인
-        RefreshToken refreshToken = getRefreshToken(member);
+        MemberDetails memberDetails = (MemberDetails) authentication.getPrincipal();
+        Member member = getMemberByPhone(memberDetails.getPhone());
 
-        // 5. 리프레시 토큰이 일치하는지 확인
-        validateRefreshToken(request.getRefreshToken(), refreshToken);
-
-        // 6. 토큰 재발급, 리프레쉬 토큰 저장
+        // 4. 토큰 재발급 후 저장된 리프레시 토큰이 일치하면 교체(rotate-on-use)
         TokenDto newGenerateToken = generateToken(member);
-        RefreshToken updateRefreshToken = refreshToken.updateToken(newGenerateToken.getRefreshToken());
-        refreshTokenRepository.save(updateRefreshToken);
+        RefreshTokenRotationResult rotationResult = refreshTokenStore.rotate(
+                member.getId()
+                , request.getRefreshToken()
+                , newGenerateToken.getRefreshToken()
+                , jwtProvider.getRefreshTokenExpiredAt());
+
+        // 5. 리프레시 토큰 교체 결과 확인
+        validateRotationResult(rotationResult);
 
         return newGenerateToken;
     }
@@ -177,16 +208,71 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new MemberException(INVALID_PHONE));
     }
 
-    /** 회원의 리프레시 토큰 조회 */
-    private RefreshToken getRefreshToken(Member member) {
-        return refreshTokenRepository.findByKey(member.getId())
-                .orElseThrow(() -> new RefreshTokenException(NO_REFRESH_TOKEN_FOUND));
+    /** 리프레시 토큰 교체 결과 확인 */
+    private void validateRotationResult(RefreshTokenRotationResult rotationResult) {
+        switch (rotationResult) {
+            case NOT_FOUND:
+                throw new RefreshTokenException(NO_REFRESH_TOKEN_FOUND);
+            case MISMATCHED:
+                throw new RefreshTokenException(MISMATCHED_REFRESH_TOKEN);
+            case EXPIRED:
+                throw new RefreshTokenException(EXPIRED_REFRESH_TOKEN);
+            default:
+                break;
+        }
     }
 
-    /** 리프레시 토큰 검증 */
-    private void validateRefreshToken(String refreshToken, RefreshToken storedRefreshToken) {
-        if (!storedRefreshToken.getToken().equals(refreshToken)) {
-            throw new RefreshTokenException(MISMATCHED_REFRESH_TOKEN);
+    /** 로그아웃 */
+    @Override
+    public void logout(String authorization) {
+        // 1. 엑세스 토큰 확인
+        Claims claims = jwtProvider.resolveClaims(jwtProvider.resolveToken(authorization));
+        if (claims == null) {
+            return;
+        }
+
+        // 2. 엑세스 토큰 폐기(jti 가 없는 이전 발급 토큰은 회원 단위 폐기)
+        Long memberId = getAuthenticatedMemberId();
+        if (claims.getId() != null) {
+            tokenRevocationList.revokeToken(claims.getId(), claims.getExpiration());
+        } else {
+            tokenRevocationList.revokeMember(memberId);
         }
+
+        // 3. 리프레시 토큰 삭제
+        refreshTokenStore.delete(memberId);
+    }
+
+    /** 회원 탈퇴 */
+    @Override
+    @Transactional
+    public void withdraw() {
+        changeMemberStatus(getAuthenticatedMemberId(), MemberStatus.WITHDRAWN);
+    }
+
+    /** 회원 상태 변경 -> 정지, 탈퇴 시 발급된 토큰 즉시 폐기 */
+    @Override
+    @Transactional
+    public void changeMemberStatus(Long memberId, MemberStatus memberStatus) {
+        // 1. 회원 상태 변경
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new MemberException(INVALID_MEMBER_ID));
+        member.updateMemberStatus(memberStatus);
+        memberRepository.save(member);
+
+        // 2. 회원 상태 캐시 갱신(커밋 이후, 롤백 시 DB 와 어긋나지 않도록)
+        memberStatusCache.updateAfterCommit(memberId, memberStatus);
+
+        // 3. 정지, 탈퇴 시 엑세스 토큰 폐기(커밋 이후) 및 리프레시 토큰 삭제
+        if (memberStatus != MemberStatus.ACTIVE) {
+            tokenRevocationList.revokeMemberAfterCommit(memberId);
+            refreshTokenStore.delete(memberId);
+        }
+    }
+
+    /** 인증된 회원 ID 조회 */
+    private Long getAuthenticatedMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return ((MemberDetails) authentication.getPrincipal()).getMemberId();
     }
 }
\ No newline at end of file
@@ -3,27 +3,50 @@ package com.mission.store.service.impl;
 import com.mission.store.domain.Member;
 import com.mission.store.domain.Reservation;
 import com.mission.store.domain.Store;
+import com.mission.store.domain.StoreSchedule;
+import com.mission.store.dto.KioskVisitUpload;
+import com.mission.store.dto.ReservationApprovalTarget;
+import com.mission.store.dto.ReservationBulkApproval;
+import com.mission.store.dto.ReservationCursor;
 import com.mission.store.dto.ReservationDto;
 import com.mission.store.dto.ReservationRegistration;
+import com.mission.store.dto.ReservationSlice;
+import com.mission.store.dto.ReservationSummary;
+import com.mission.store.dto.StoreAvailability;
 import com.mission.store.exception.MemberException;
 import com.mission.store.exception.ReservationException;
 import com.mission.store.exception.StoreException;
+import com.mission.store.index.KioskManifestSigner;
+import com.mission.store.index.KioskReservationIndex;
+import com.mission.store.index.NoShowScheduler;
+import com.mission.store.index.ReservationCodeAllocator;
+import com.mission.store.index.ReservationSlotIndex;
+import com.mission.store.index.StoreScheduleRegistry;
 import com.mission.store.repository.MemberRepository;
 import com.mission.store.repository.ReservationRepository;
 import com.mission.store.repository.StoreRepository;
 import com.mission.store.service.ReservationService;
+import com.mission.store.type.KioskVisitResult;
+import com.mission.store.type.ReservationApprovalResult;
 import com.mission.store.type.ReservationApprovalStatus;
+import com.mission.store.type.ReservationVisitStatus;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.List;
-import java.util.Objects;
-import java.util.Random;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.mission.store.type.ErrorCode.*;
@@ -35,11 +58,20 @@ import static com.mission.store.type.StoreStatus.OPEN;
 @RequiredArgsConstructor
 public class ReservationServiceImpl implements ReservationService {
 
-    private static final int ARRIVAL_THRESHOLD_MINUTES = 10;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
     private final MemberRepository memberRepository;
+    private final StoreScheduleRegistry storeScheduleRegistry;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final NoShowScheduler noShowScheduler;
+    private final ReservationCodeAllocator reservationCodeAllocator;
+    private final KioskReservationIndex kioskReservationIndex;
+    private final KioskManifestSigner kioskManifestSigner;
+
+    @Value("${store.reservation-slot.interval-minutes:30}")
+    private int slotIntervalMinutes;
 
     /** 예약 요청 */
     @Override
@@ -55,16 +87,14 @@ public class ReservationServiceImpl implements ReservationService {
         // 2. 매장 영업 여부 확인
         validateStoreOpen(store);
 
-        // 3. 휴무 시간 예약 여부 확인
-        String storeBreakTime = store.getBreakTime();
-        String reservationTime = request.getReservationTime();
-        validateBreakTime(storeBreakTime, reservationTime);
+        // 3. 영업 시간, 휴무 시간 예약 여부 확인
+        validateSchedule(store, request.getReservationDate(), request.getReservationTime());
 
-        // 4. 요청 시간대에 이미 예약이 존재하는지 확인
-        validateDuplicateReservation(request);
+        // 4. 요청 시간대 점유(시간대당 예약 1건 또는 매장의 시간대별 최대 인원 수)
+        reserveSlot(store, request);
 
-        // 5. 예약 확인을 위한 예약 코드 생성
-        String reservationCode = generateReservationCode();
+        // 5. 예약 확인을 위한 예약 코드 할당(매장, 날짜별 중복 없음)
+        String reservationCode = allocateReservationCode(store, request.getReservationDate());
 
         // 6. 예약
         Reservation reservation = saveReservation(request, store, customer, reservationCode);
@@ -94,36 +124,83 @@ public class ReservationServiceImpl implements ReservationService {
         }
     }
 
-    /** 예약 시간이 휴무 시간에 포함되는지 확인 */
-    private void validateBreakTime(String storeBreakTime, String reservationTime) {
-        if (storeBreakTime != null
-                && !storeBreakTime.isEmpty()
-                && reservationTime != null
-                && isReservationDuringBreakTime(reservationTime, storeBreakTime)) {
+    /** 예약 시간이 영업 시간 안이며 휴무 시간이 아닌지 확인 */
+    private void validateSchedule(Store store, LocalDate reservationDate, String reservationTime) {
+        int minuteOfDay = StoreSchedule.minuteOfDay(reservationTime);
+        if (minuteOfDay < 0) {
+            throw new ReservationException(INVALID_RESERVATION_TIME);
+        }
+
+        StoreSchedule schedule = storeScheduleRegistry.get(store.getId(), store.getBusinessHours(), store.getBreakTime());
+        DayOfWeek dayOfWeek = reservationDate.getDayOfWeek();
+        if (!schedule.isBusinessHours(dayOfWeek, minuteOfDay)) {
+            throw new ReservationException(NOT_AVAILABLE_OUTSIDE_BUSINESS_HOURS);
+        }
+        if (schedule.isBreakTime(dayOfWeek, minuteOfDay)) {
             throw new ReservationException(NOT_AVAILABLE_DURING_BREAK_TIME);
         }
     }
 
-    /** 예약 시간에 중복된 예약이 있는지 확인 */
-    private void validateDuplicateReservation(ReservationRegistration.Request request) {
-        if (reservationRepository.existsByReservationDateAndReservationTime(request.getReservationDate(), request.getReservationTime())) {
-            throw new ReservationException(DUPLICATE_RESERVATION);
+    /** 매장의 예약 시간대 점유(예약 저장이 커밋되면 확정, 롤백되면 점유 해제) */
+    private void reserveSlot(Store store, ReservationRegistration.Request request) {
+        int minuteOfDay = StoreSchedule.minuteOfDay(request.getReservationTime());
+        if (!reservationSlotIndex.tryReserve(store.getId(), request.getReservationDate(), minuteOfDay
+                , request.getNumberOfCustomer(), store.getSlotCapacity())) {
+            throw new ReservationException(store.getSlotCapacity() == null ? DUPLICATE_RESERVATION : RESERVATION_SLOT_FULL);
         }
     }
 
-    /** 예약 저장(등록) */
+    /** 예약이 점유한 시간대, 예약 코드 해제(커밋 이후) */
+    private void releaseSlot(Reservation reservation) {
+        reservationSlotIndex.releaseAfterCommit(reservation.getStore().getId(), reservation.getReservationDate()
+                , StoreSchedule.minuteOfDay(reservation.getReservationTime()), reservation.getNumberOfCustomer());
+        reservationCodeAllocator.releaseAfterCommit(reservation.getStore().getId(), reservation.getReservationDate()
+                , ReservationCodeAllocator.parse(reservation.getReservationCode()));
+    }
+
+    /**
+     * 예약 저장(등록)
+     * -> 시간대당 예약 1건인 매장은 (매장, 날짜, 시간, active_slot) 유니크 키로 중복 예약을 막고,
+     *    다른 서버에서 먼저 저장된 예약과 충돌하면 중복 예약으로 처리(다른 제약 조건 위반은 그대로 던진다.)
+     */
     private Reservation saveReservation(ReservationRegistration.Request request, Store store, Member customer, String reservationCode) {
-        return reservationRepository.save(Reservation.builder()
+        try {
+            return reservationRepository.saveAndFlush(buildReservation(request, store, customer, reservationCode));
+        } catch (DataIntegrityViolationException e) {
+            if (isActiveSlotViolation(e)) {
+                throw new ReservationException(DUPLICATE_RESERVATION);
+            }
+            throw e;
+        }
+    }
+
+    /** 시간대당 예약 1건 유니크 키 위반인지 확인(MySQL 은 "reservation.uk_reservation_active_slot" 처럼 테이블 이름이 붙는다.) */
+    static boolean isActiveSlotViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String constraintName = ((ConstraintViolationException) cause).getConstraintName();
+                return constraintName != null
+                        && constraintName.toLowerCase(Locale.ROOT).contains(Reservation.ACTIVE_SLOT_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    private static Reservation buildReservation(ReservationRegistration.Request request, Store store, Member customer, String reservationCode) {
+        return Reservation.builder()
                 .store(store)
                 .customer(customer)
                 .reservationDate(request.getReservationDate())
                 .reservationTime(request.getReservationTime())
+                .reservedAt(request.getReservationDate().atStartOfDay()
+                        .plusMinutes(StoreSchedule.minuteOfDay(request.getReservationTime())))
                 .reservationMemo(request.getReservationMemo())
                 .numberOfCustomer(request.getNumberOfCustomer())
                 .reservationCode(reservationCode)
                 .reservationVisitStatus(NOT_VISITED)
                 .reservationApprovalStatus(PENDING)
-                .build());
+                .activeSlot(store.getSlotCapacity() == null ? Boolean.TRUE : null)
+                .build();
     }
 
     /** 예약 등록 응답 생성 */
@@ -139,7 +216,7 @@ public class ReservationServiceImpl implements ReservationService {
     @Transactional
     public void cancelReservation(Long reservationId) {
         // 1. 예약 정보 조회
-        Reservation reservation = getReservationById(reservationId);
+        Reservation reservation = getReservationWithCustomerById(reservationId);
 
         // 2. 유효성 검사(예약 소유자, 예약 상태 확인)
         validateUserOwnership(reservation);
@@ -155,6 +232,18 @@ public class ReservationServiceImpl implements ReservationService {
                 .orElseThrow(() -> new ReservationException(INVALID_RESERVATION_ID));
     }
 
+    /** 예약 손님 정보를 포함한 예약 정보 조회 */
+    private Reservation getReservationWithCustomerById(Long reservationId) {
+        return reservationRepository.findWithCustomerById(reservationId)
+                .orElseThrow(() -> new ReservationException(INVALID_RESERVATION_ID));
+    }
+
+    /** 매장 점주 정보를 포함한 예약 정보 조회 */
+    private Reservation getReservationWithStoreOwnerById(Long reservationId) {
+        return reservationRepository.findWithStoreOwnerById(reservationId)
+                .orElseThrow(() -> new ReservationException(INVALID_RESERVATION_ID));
+    }
+
     /** 예약 손님 확인 */
     private void validateUserOwnership(Reservation reservation) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -181,8 +270,18 @@ public class ReservationServiceImpl implements ReservationService {
 
     /** 예약 상태를 '취소로 인한 미방문'으로 업데이트 */
     private void cancelReservationAndUpdateStatus(Reservation reservation) {
+        boolean occupied = ReservationSlotIndex.occupiesSlot(
+                reservation.getReservationVisitStatus(), reservation.getReservationApprovalStatus());
+
         reservation.updateReservationVisitStatus(CANCELLED_NOT_VISITED);
+        reservation.releaseActiveSlot();
         reservationRepository.save(reservation);
+
+        if (occupied) {
+            releaseSlot(reservation);
+        }
+        kioskReservationIndex.removeAfterCommit(reservation.getStore().getId(), reservation.getReservationDate()
+                , reservation.getId(), reservation.getReservationCode());
     }
 
     /** 키오스크 예약 방문 확인 */
@@ -193,9 +292,8 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation reservation = getReservationById(reservationId);
 
         // 2. 유효성 검사(예약 승인 여부, 예약 시간 10분 전 도착 확인)
-        LocalDateTime reservedAt = LocalDateTime.of(reservation.getReservationDate(), LocalTime.parse(reservation.getReservationTime()));
         validateReservationApprovalStatus(reservation);
-        validateArrivalTime(reservedAt);
+        validateArrivalTime(reservation.resolveReservedAt());
 
         // 3. 예약 코드 일치 여부 확인
         validateReservationCode(reservation, reservationCode);
@@ -203,6 +301,78 @@ public class ReservationServiceImpl implements ReservationService {
         // 4. 방문 상태 변경
         reservation.updateReservationVisitStatus(VISITED_WITHIN_RESERVATION_TIME);
         reservationRepository.save(reservation);
+        kioskReservationIndex.removeAfterCommit(reservation.getStore().getId(), reservation.getReservationDate()
+                , reservation.getId(), reservation.getReservationCode());
+    }
+
+    /** 키오스크 예약 코드로 방문 확인(오늘 승인된 예약 인덱스에서 확인, 방문 상태는 모아서 반영) */
+    @Override
+    public void confirmVisitByCode(Long storeId, String reservationCode) {
+        // 1. 매장 점주 확인(매장 키오스크는 점주 계정으로 로그인)
+        validateStoreOwnership(storeId);
+
+        // 2. 예약 코드로 방문 확인
+        int code = ReservationCodeAllocator.parse(reservationCode);
+        if (code < 0) {
+            throw new ReservationException(MISMATCHED_RESERVATION_CODE);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        KioskVisitResult result = kioskReservationIndex.confirmVisit(storeId, now.toLocalDate(), code, now);
+        if (result == KioskVisitResult.NOT_FOUND) {
+            throw new ReservationException(MISMATCHED_RESERVATION_CODE);
+        } else if (result == KioskVisitResult.ALREADY_VISITED) {
+            throw new ReservationException(ALREADY_VISITED_RESERVATION);
+        } else if (result == KioskVisitResult.EXPIRED) {
+            throw new ReservationException(UNABLE_TO_CONFIRM_RESERVATION);
+        }
+    }
+
+    /** 키오스크 오프라인 방문 확인용 매장, 날짜별 승인된 예약 매니페스트(서명된 바이너리) */
+    @Override
+    public byte[] getKioskManifest(Long storeId, LocalDate date) {
+        // 1. 매장 점주 확인
+        validateStoreOwnership(storeId);
+
+        // 2. 승인 후 방문하지 않은 예약으로 매니페스트 생성
+        return kioskManifestSigner.sign(storeId, date, Instant.now().getEpochSecond()
+                , kioskReservationIndex.entries(storeId, date));
+    }
+
+    /**
+     * 키오스크에서 오프라인으로 확인한 방문 일괄 반영
+     * -> 방문 확인 시간(visitedAt) 기준으로 확인하며, 이미 반영된 방문은 ALREADY_VISITED 로 응답(재전송 가능)
+     */
+    @Override
+    public KioskVisitUpload.Response uploadKioskVisits(Long storeId, KioskVisitUpload.Request request) {
+        // 1. 매장 점주 확인
+        validateStoreOwnership(storeId);
+
+        // 2. 방문 확인별 반영(미래 시간은 현재 시간으로 처리)
+        LocalDateTime now = LocalDateTime.now();
+        List<KioskVisitUpload.Result> results = new ArrayList<>(request.getVisits().size());
+        for (KioskVisitUpload.Visit visit : request.getVisits()) {
+            int code = ReservationCodeAllocator.parse(visit.getReservationCode());
+            LocalDateTime visitedAt = visit.getVisitedAt().isAfter(now) ? now : visit.getVisitedAt();
+            KioskVisitResult result = code < 0 ? KioskVisitResult.NOT_FOUND
+                    : kioskReservationIndex.confirmVisit(storeId, request.getReservationDate(), code, visitedAt);
+
+            results.add(KioskVisitUpload.Result.builder()
+                    .reservationCode(visit.getReservationCode())
+                    .result(result)
+                    .build());
+        }
+
+        return KioskVisitUpload.Response.builder()
+                .results(results)
+                .build();
+    }
+
+    /** 로그인한 회원이 매장 점주인지 확인 */
+    private void validateStoreOwnership(Long storeId) {
+        if (storeRepository.findIdsByIdInAndOwnerEmail(Collections.singleton(storeId), getAuthenticatedEmail()).isEmpty()) {
+            throw new StoreException(ACCESS_DENIED_FOR_STORE_MANAGEMENT);
+        }
     }
 
     /** 예약 승인 여부 확인 */
@@ -217,7 +387,7 @@ public class ReservationServiceImpl implements ReservationService {
 
     /** 예약 시간 10분 전에 도착했는지 확인 */
     private void validateArrivalTime(LocalDateTime reservedAt) {
-        LocalDateTime thresholdTime = LocalDateTime.now().minusMinutes(ARRIVAL_THRESHOLD_MINUTES);
+        LocalDateTime thresholdTime = LocalDateTime.now().minusMinutes(Reservation.ARRIVAL_THRESHOLD_MINUTES);
         if (reservedAt.isBefore(thresholdTime)) {
             throw new ReservationException(UNABLE_TO_CONFIRM_RESERVATION);
         }
@@ -230,28 +400,87 @@ public class ReservationServiceImpl implements ReservationService {
         }
     }
 
-    /** 매장 점주가 매장의 매장 정보와 해당 매장의 모든 예약 확인 */
+    /** 매장 점주가 매장의 예약 확인(기간, 승인 상태, 방문 상태 조건, 예약 날짜/시간순 키셋 페이지네이션) */
     @Override
-    public List<ReservationDto> getReservationsByStoreId(Long storeId) {
-        // 매장 조회
-        Store store = getStoreById(storeId);
+    public ReservationSlice getReservationsByStoreId(Long storeId, LocalDate fromDate, LocalDate toDate,
+                                                     ReservationApprovalStatus approvalStatus,
+                                                     ReservationVisitStatus visitStatus, String cursor, int size) {
+        // 1. 매장 확인
+        if (!storeRepository.existsById(storeId)) {
+            throw new StoreException(INVALID_STORE_ID);
+        }
 
-        // 매장과 관련된 모든 예약 조회
-        List<Reservation> reservations = getReservationsByStore(store);
+        // 2. 매장 점주 확인(손님 연락처, 닉네임 포함)
+        validateStoreOwnership(storeId);
+
+        // 3. 페이지 크기 확인(최대 MAX_PAGE_SIZE)
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 4. 커서 이후 예약 조회(다음 페이지 존재 여부 확인을 위해 1개 더 조회)
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<ReservationSummary> reservations = cursor == null || cursor.isEmpty()
+                ? reservationRepository.findSummariesByStoreId(storeId, fromDate, toDate
+                        , approvalStatus, visitStatus, pageRequest)
+                : findSummariesAfter(storeId, fromDate, toDate, approvalStatus, visitStatus
+                        , ReservationCursor.decode(cursor), pageRequest);
+
+        // 5. 다음 페이지 커서 생성
+        boolean hasNext = reservations.size() > pageSize;
+        List<ReservationSummary> page = hasNext ? reservations.subList(0, pageSize) : reservations;
+
+        return ReservationSlice.builder()
+                .reservations(page.stream()
+                        .map(ReservationDto::fromSummary)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? ReservationCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
 
-        return reservations.stream()
-                .map(ReservationDto::fromEntity)
-                .collect(Collectors.toList());
+    private List<ReservationSummary> findSummariesAfter(Long storeId, LocalDate fromDate, LocalDate toDate,
+                                                        ReservationApprovalStatus approvalStatus,
+                                                        ReservationVisitStatus visitStatus,
+                                                        ReservationCursor cursor, PageRequest pageRequest) {
+        return reservationRepository.findSummariesByStoreIdAfter(storeId, fromDate, toDate, approvalStatus, visitStatus
+                , cursor.getReservationDate(), cursor.getReservationTime(), cursor.getId(), pageRequest);
     }
 
-    /** 매장과 관련된 모든 예약 조회 */
-    private List<Reservation> getReservationsByStore(Store store) {
-        List<Reservation> reservations = reservationRepository.findByStore(store);
-        if (reservations.isEmpty()) {
-            throw new ReservationException(NO_RESERVATION_RELATED_TO_STORE);
+    /** 매장의 날짜별 예약 가능 시간대 조회(영업 시간 - 휴무 시간 - 예약이 찬 시간대) */
+    @Override
+    public StoreAvailability getAvailability(Long storeId, LocalDate date, int partySize) {
+        // 1. 매장 확인
+        Store store = getStoreById(storeId);
+        validateStoreOpen(store);
+        int size = Math.max(partySize, 1);
+
+        // 2. 영업 시간 비트셋에서 예약할 수 없는 시간대 제외
+        StoreSchedule schedule = storeScheduleRegistry.get(store.getId(), store.getBusinessHours(), store.getBreakTime());
+        BitSet available = schedule.openMinutes(date.getDayOfWeek());
+        available.andNot(reservationSlotIndex.unavailableMinutes(store.getId(), date, size, store.getSlotCapacity()));
+
+        // 3. 지난 시간 제외 후 slotIntervalMinutes 간격의 시간대 선택
+        int from = 0;
+        if (date.isBefore(LocalDate.now())) {
+            from = available.length();
+        } else if (date.isEqual(LocalDate.now())) {
+            LocalTime now = LocalTime.now();
+            from = now.getHour() * 60 + now.getMinute() + 1;
+        }
+
+        List<String> slots = new ArrayList<>();
+        boolean fits = store.getSlotCapacity() == null || size <= store.getSlotCapacity();
+        for (int minute = available.nextSetBit(from); fits && minute >= 0; minute = available.nextSetBit(minute + 1)) {
+            if (minute % slotIntervalMinutes == 0) {
+                slots.add(String.format("%02d:%02d", minute / 60, minute % 60));
+            }
         }
 
-        return reservations;
+        return StoreAvailability.builder()
+                .storeId(store.getId())
+                .date(date)
+                .partySize(size)
+                .slots(slots)
+                .build();
     }
 
     /** 예약 승인 및 거절 */
@@ -259,7 +488,7 @@ public class ReservationServiceImpl implements ReservationService {
     @Transactional
     public void approveOrRejectReservation(Long reservationId, ReservationApprovalStatus approvalStatus) {
         // 1. 예약 확인
-        Reservation reservation = getReservationById(reservationId);
+        Reservation reservation = getReservationWithStoreOwnerById(reservationId);
 
         // 2. 유효성 검사(예약 승인 또는 거절하였거나 이미 승인된 예약 확인)
         validateApprovalAuthority(reservation);
@@ -289,44 +518,156 @@ public class ReservationServiceImpl implements ReservationService {
 
     /** 예약 승인 또는 거절 처리 */
     private void processReservationApproval(Reservation reservation, ReservationApprovalStatus approvalStatus) {
+        boolean occupied = ReservationSlotIndex.occupiesSlot(
+                reservation.getReservationVisitStatus(), reservation.getReservationApprovalStatus());
+
         reservation.updateReservationApprovalStatus(approvalStatus);
+        if (approvalStatus == ReservationApprovalStatus.REJECTED) {
+            reservation.releaseActiveSlot();
+        }
         reservationRepository.save(reservation);
+
+        // 거절된 예약의 시간대 해제, 승인된 예약은 노쇼 처리 등록
+        if (occupied && approvalStatus == ReservationApprovalStatus.REJECTED) {
+            releaseSlot(reservation);
+        } else if (approvalStatus == ReservationApprovalStatus.APPROVED) {
+            noShowScheduler.registerAfterCommit(reservation.getId(), reservation.getReservationDate()
+                    , reservation.getReservationTime());
+            kioskReservationIndex.putAfterCommit(reservation.getStore().getId(), reservation.getReservationDate()
+                    , reservation.getId(), reservation.getReservationCode(), reservation.getReservationTime()
+                    , reservation.getNumberOfCustomer());
+        }
     }
 
-    /** 예약 요청 시간이 휴무 시간의 포함되는지 확인 */
-    private boolean isReservationDuringBreakTime(String reservationTime, String storeBreakTime) {
-        String[] breakTimeParts = storeBreakTime.split(" - ");
-        String breakStartTime = breakTimeParts[0];
-        String breakEndTime = breakTimeParts[1];
+    /**
+     * 예약 일괄 승인 및 거절
+     * -> 대상 예약은 프로젝션으로 한 번에 조회하고, 점주 권한은 매장별로 한 번만 확인
+     * -> 승인 대기 상태인 예약만 조건부 UPDATE 한 번으로 처리하며 예약별 처리 결과를 반환
+     */
+    @Override
+    @Transactional
+    public ReservationBulkApproval.Response approveOrRejectReservations(ReservationBulkApproval.Request request) {
+        ReservationApprovalStatus approvalStatus = request.getStatus();
+        if (approvalStatus == PENDING) {
+            throw new ReservationException(INVALID_APPROVAL_STATUS);
+        }
+
+        // 1. 대상 예약 조회(중복 아이디 제거, 요청 순서 유지)
+        Set<Long> reservationIds = new LinkedHashSet<>(request.getReservationIds());
+        Map<Long, ReservationApprovalTarget> targets = reservationRepository.findApprovalTargetsByIdIn(reservationIds).stream()
+                .collect(Collectors.toMap(ReservationApprovalTarget::getId, Function.identity()));
+
+        // 2. 매장별 점주 권한 확인
+        Set<Long> storeIds = targets.values().stream()
+                .map(ReservationApprovalTarget::getStoreId)
+                .collect(Collectors.toSet());
+        Set<Long> ownedStoreIds = storeIds.isEmpty() ? Collections.emptySet()
+                : new HashSet<>(storeRepository.findIdsByIdInAndOwnerEmail(storeIds, getAuthenticatedEmail()));
+
+        // 3. 예약별 처리 가능 여부 확인
+        Map<Long, ReservationApprovalResult> results = new LinkedHashMap<>();
+        List<Long> pendingIds = new ArrayList<>();
+        for (Long reservationId : reservationIds) {
+            ReservationApprovalTarget target = targets.get(reservationId);
+            if (target == null) {
+                results.put(reservationId, ReservationApprovalResult.NOT_FOUND);
+            } else if (!ownedStoreIds.contains(target.getStoreId())) {
+                results.put(reservationId, ReservationApprovalResult.ACCESS_DENIED);
+            } else if (target.getReservationApprovalStatus() != PENDING) {
+                results.put(reservationId, ReservationApprovalResult.ALREADY_PROCESSED);
+            } else {
+                results.put(reservationId, ReservationApprovalResult.PROCESSED);
+                pendingIds.add(reservationId);
+            }
+        }
 
-        // 예약 요청 시간을 시간과 분으로 분리
-        String[] reservationTimeParts = reservationTime.split(":");
-        int reservationHour = Integer.parseInt(reservationTimeParts[0]);
-        int reservationMinute = Integer.parseInt(reservationTimeParts[1]);
+        // 4. 승인 대기 중인 예약 일괄 처리
+        int processedCount = pendingIds.isEmpty() ? 0 : updatePendingReservations(pendingIds, approvalStatus);
+        if (processedCount < pendingIds.size()) {
+            // 조회 이후 다른 요청에서 먼저 처리된 예약 확인
+            markProcessedConcurrently(pendingIds, approvalStatus, results);
+        }
 
-        // 휴무 시작 시간을 시간과 분으로 분리
-        String[] startTimeParts = breakStartTime.split(":");
-        int startHour = Integer.parseInt(startTimeParts[0]);
-        int startMinute = Integer.parseInt(startTimeParts[1]);
+        // 5. 승인된 예약은 노쇼 처리, 키오스크 방문 확인 인덱스에 등록
+        if (approvalStatus == ReservationApprovalStatus.APPROVED) {
+            for (Long reservationId : pendingIds) {
+                ReservationApprovalTarget target = targets.get(reservationId);
+                if (results.get(reservationId) == ReservationApprovalResult.PROCESSED) {
+                    noShowScheduler.registerAfterCommit(reservationId, target.getReservationDate()
+                            , target.getReservationTime());
+                    kioskReservationIndex.putAfterCommit(target.getStoreId(), target.getReservationDate()
+                            , reservationId, target.getReservationCode(), target.getReservationTime()
+                            , target.getNumberOfCustomer());
+                }
+            }
+        }
 
-        // 휴무 종료 시간을 시간과 분으로 분리
-        String[] endTimeParts = breakEndTime.split(":");
-        int endHour = Integer.parseInt(endTimeParts[0]);
-        int endMinute = Integer.parseInt(endTimeParts[1]);
+        // 6. 거절된 예약의 시간대, 예약 코드 해제
+        //    (다른 요청과 겹친 경우 어느 요청이 거절했는지 알 수 없으므로 매장-날짜 사용량을 다시 집계하고,
+        //     예약 코드는 다른 예약에 다시 할당되었을 수 있으므로 반환하지 않는다.)
+        if (approvalStatus == ReservationApprovalStatus.REJECTED) {
+            boolean concurrent = processedCount < pendingIds.size();
+            for (Long reservationId : pendingIds) {
+                ReservationApprovalTarget target = targets.get(reservationId);
+                if (results.get(reservationId) != ReservationApprovalResult.PROCESSED
+                        || !ReservationSlotIndex.occupiesSlot(target.getReservationVisitStatus(), PENDING)) {
+                    continue;
+                }
+
+                if (concurrent) {
+                    reservationSlotIndex.evictAfterCommit(target.getStoreId(), target.getReservationDate());
+                } else {
+                    reservationSlotIndex.releaseAfterCommit(target.getStoreId(), target.getReservationDate()
+                            , StoreSchedule.minuteOfDay(target.getReservationTime()), target.getNumberOfCustomer());
+                    reservationCodeAllocator.releaseAfterCommit(target.getStoreId(), target.getReservationDate()
+                            , ReservationCodeAllocator.parse(target.getReservationCode()));
+                }
+            }
+        }
 
-        // 예약 요청 시간이 휴무 시간 범위에 속하는지 확인
-        if (reservationHour > startHour && reservationHour < endHour) {
-            return true;
-        } else if (reservationHour == startHour && reservationMinute >= startMinute) {
-            return true;
-        } else return reservationHour == endHour && reservationMinute < endMinute;
+        return ReservationBulkApproval.Response.builder()
+                .status(approvalStatus)
+                .processedCount(processedCount)
+                .results(results.entrySet().stream()
+                        .map(entry -> ReservationBulkApproval.Result.builder()
+                                .id(entry.getKey())
+                                .result(entry.getValue())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /** 로그인한 회원 이메일 */
+    private static String getAuthenticatedEmail() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    /** 승인 대기 중인 예약만 조건부 UPDATE(처리된 예약 수 반환) */
+    private int updatePendingReservations(List<Long> reservationIds, ReservationApprovalStatus approvalStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        return approvalStatus == ReservationApprovalStatus.REJECTED
+                ? reservationRepository.rejectPendingByIdIn(reservationIds, now)
+                : reservationRepository.approvePendingByIdIn(reservationIds, now);
     }
 
-    /** 예약 코드 생성 */
-    private static String generateReservationCode() {
-        Random random = new Random();
-        int randomNumber = random.nextInt(10000); // 0 <= randomNumber <10000
+    /** UPDATE 이후 요청 상태가 아닌 예약은 이미 처리된 예약으로 표시 */
+    private void markProcessedConcurrently(List<Long> reservationIds, ReservationApprovalStatus approvalStatus,
+                                           Map<Long, ReservationApprovalResult> results) {
+        for (ReservationApprovalTarget target : reservationRepository.findApprovalTargetsByIdIn(reservationIds)) {
+            if (target.getReservationApprovalStatus() != approvalStatus) {
+                results.put(target.getId(), ReservationApprovalResult.ALREADY_PROCESSED);
+            }
+        }
+    }
+
+    /** 예약 코드 할당(예약 저장이 롤백되면 반환) */
+    private String allocateReservationCode(Store store, LocalDate reservationDate) {
+        int code = reservationCodeAllocator.allocate(store.getId(), reservationDate);
+        if (code < 0) {
+            throw new ReservationException(RESERVATION_CODE_EXHAUSTED);
+        }
 
-        return String.format("%04d", randomNumber);
+        reservationCodeAllocator.releaseOnRollback(store.getId(), reservationDate, code);
+        return String.format("%04d", code);
     }
 }
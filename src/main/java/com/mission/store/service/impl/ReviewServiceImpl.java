@@ -4,6 +4,8 @@ import com.mission.store.domain.Reservation;
 import com.mission.store.domain.Review;
 import com.mission.store.domain.Store;
 import com.mission.store.dto.ReviewRegistration;
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.event.StoreChangedEvent;
 import com.mission.store.exception.ReservationException;
 import com.mission.store.exception.ReviewException;
 import com.mission.store.repository.ReservationRepository;
@@ -12,6 +14,7 @@ import com.mission.store.repository.StoreRepository;
 import com.mission.store.service.ReviewService;
 import com.mission.store.type.ReviewStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -28,6 +31,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
     private final StoreRepository storeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 리뷰 작성 */
     @Override
@@ -50,7 +54,7 @@ public class ReviewServiceImpl implements ReviewService {
 
     /** 예약 번호에 해당하는 예약 정보 조회 */
     private Reservation getReservationById(Long reservationId) {
-        return reservationRepository.findById(reservationId)
+        return reservationRepository.findWithStoreAndCustomerById(reservationId)
                 .orElseThrow(() -> new ReservationException(INVALID_RESERVATION_ID));
     }
 
@@ -66,8 +70,7 @@ public class ReviewServiceImpl implements ReviewService {
 
     /** 이미 작성된 리뷰가 존재하는지 확인 */
     private void validateReviewNotExist(Reservation reservation) {
-        Review existingReview = reviewRepository.findByReservation(reservation);
-        if (existingReview != null) {
+        if (reviewRepository.existsByReservation(reservation)) {
             throw new ReviewException(ALREADY_WRITTEN_REVIEW);
         }
     }
@@ -102,6 +105,7 @@ public class ReviewServiceImpl implements ReviewService {
         store.updateAverageRating(averageRating);
 
         storeRepository.save(store);
+        eventPublisher.publishEvent(new StoreChangedEvent(StoreSummary.fromEntity(store)));
     }
 
 }
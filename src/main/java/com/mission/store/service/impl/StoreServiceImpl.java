@@ -2,21 +2,36 @@ package com.mission.store.service.impl;
 
 import com.mission.store.domain.Member;
 import com.mission.store.domain.Store;
-import com.mission.store.dto.StoreDto;
-import com.mission.store.dto.StoreRegistration;
-import com.mission.store.dto.StoreSearchResult;
+import com.mission.store.domain.StoreSchedule;
+import com.mission.store.dto.*;
+import com.mission.store.event.StoreChangedEvent;
 import com.mission.store.exception.MemberException;
 import com.mission.store.exception.StoreException;
+import com.mission.store.index.StoreAutocompleteIndex;
+import com.mission.store.index.StoreCatalog;
+import com.mission.store.index.StoreClusterIndex;
+import com.mission.store.index.StoreGeoIndex;
+import com.mission.store.index.StoreIndexManager;
+import com.mission.store.index.StoreNameIndex;
+import com.mission.store.index.StoreScheduleRegistry;
 import com.mission.store.repository.MemberRepository;
 import com.mission.store.repository.StoreRepository;
 import com.mission.store.service.StoreService;
 import com.mission.store.type.MemberRole;
+import com.mission.store.type.StoreSortType;
 import com.mission.store.type.StoreStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.mission.store.type.ErrorCode.*;
@@ -26,9 +41,21 @@ import static com.mission.store.type.ErrorCode.*;
 public class StoreServiceImpl implements StoreService {
 
     private final static int OPEN_MAX_STORE_COUNT = 2;
+    private final static int MAX_PAGE_SIZE = 100;
 
     private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
+    private final StoreIndexManager storeIndexManager;
+    private final StoreCatalog storeCatalog;
+    private final StoreNameIndex storeNameIndex;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreClusterIndex storeClusterIndex;
+    private final StoreAutocompleteIndex storeAutocompleteIndex;
+    private final StoreScheduleRegistry storeScheduleRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${store.geo-index.max-radius-meters:20000}")
+    private int maxRadiusMeters;
 
     /** 매장 등록 */
     @Override
@@ -46,10 +73,14 @@ public class StoreServiceImpl implements StoreService {
         // 4. 주소와 위치(위도, 경도)가 같은 매장을 중복 확인
         validateDuplicateStore(owner, request.getAddress(), request.getLat(), request.getLon());
 
-        // 5. 매장 등록
+        // 5. 영업 시간, 휴무 시간 구간 확인(시작 시간과 종료 시간이 같은 구간)
+        validateStoreSchedule(request.getBusinessHours(), request.getBreakTime());
+
+        // 6. 매장 등록
         Store store = saveStore(owner, request);
+        eventPublisher.publishEvent(new StoreChangedEvent(StoreSummary.fromEntity(store)));
 
-        // 6. 매장 등록 응답 생성
+        // 7. 매장 등록 응답 생성
         return createRegisterStoreResponse(store);
     }
 
@@ -81,6 +112,13 @@ public class StoreServiceImpl implements StoreService {
         }
     }
 
+    /** 영업 시간, 휴무 시간의 모든 구간이 유효한지 확인 */
+    private void validateStoreSchedule(String businessHours, String breakTime) {
+        if (!StoreSchedule.isValid(businessHours) || !StoreSchedule.isValid(breakTime)) {
+            throw new StoreException(INVALID_STORE_SCHEDULE);
+        }
+    }
+
     /** 매장 저장(등록) */
     private Store saveStore(Member owner, StoreRegistration.Request request) {
         return storeRepository.save(Store.builder()
@@ -94,6 +132,7 @@ public class StoreServiceImpl implements StoreService {
                 .reviewCount(0)
                 .businessHours(request.getBusinessHours())
                 .breakTime(request.getBreakTime())
+                .slotCapacity(request.getSlotCapacity())
                 .build());
     }
 
@@ -104,52 +143,271 @@ public class StoreServiceImpl implements StoreService {
                 .build();
     }
 
-    /** 매장 전체 보기 */
+    /** 매장 전체 보기(키셋 페이지네이션, 카탈로그 구성 전에는 DB 조회) */
     @Override
-    public List<StoreDto> getStores() {
-        List<Store> stores = storeRepository.findAll();
+    public StoreSlice getStores(StoreSortType sortType, String cursor, int size) {
+        // 1. 페이지 크기 확인(최대 MAX_PAGE_SIZE)
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 
-        return stores.stream()
-                .map(StoreDto::fromEntity)
-                .collect(Collectors.toList());
+        // 2. 커서 이후 매장 조회(다음 페이지 존재 여부 확인을 위해 1개 더 조회)
+        StoreCursor storeCursor = cursor == null || cursor.isEmpty() ? null : StoreCursor.decode(cursor, sortType);
+        List<StoreSummary> stores = findStoreSummaries(sortType, storeCursor, PageRequest.of(0, pageSize + 1));
+
+        // 3. 다음 페이지 커서 생성
+        boolean hasNext = stores.size() > pageSize;
+        List<StoreSummary> page = hasNext ? stores.subList(0, pageSize) : stores;
+
+        return StoreSlice.builder()
+                .stores(page)
+                .nextCursor(hasNext ? StoreCursor.of(sortType, page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
-    /** 매장 상세 보기 */
+    /** 정렬 기준에 따라 커서 이후 매장 조회 */
+    private List<StoreSummary> findStoreSummaries(StoreSortType sortType, StoreCursor cursor, PageRequest pageRequest) {
+        if (storeIndexManager.isReady()) {
+            return sortType == StoreSortType.RATING
+                    ? storeCatalog.findByRatingAfter(cursor == null ? null : cursor.getAverageRating()
+                            , cursor == null ? 0L : cursor.getId(), pageRequest.getPageSize())
+                    : storeCatalog.findAfterId(cursor == null ? 0L : cursor.getId(), pageRequest.getPageSize());
+        }
+
+        if (sortType == StoreSortType.RATING) {
+            return cursor == null
+                    ? storeRepository.findSummariesOrderByRating(pageRequest)
+                    : storeRepository.findSummariesByRatingAfter(cursor.getAverageRating(), cursor.getId(), pageRequest);
+        }
+
+        return storeRepository.findSummariesAfterId(cursor == null ? 0L : cursor.getId(), pageRequest);
+    }
+
+    /** 매장 상세 보기(카탈로그에서는 점주 ID, 닉네임만 제공) */
     @Override
     public StoreDto getStoreById(Long storeId) {
-        Store store = storeRepository.findById(storeId)
+        // 인덱스 구성 전에는 DB 에서 같은 프로젝션으로 조회(점주 정보는 ID, 닉네임만 응답)
+        StoreSummary store = (storeIndexManager.isReady()
+                ? storeCatalog.findById(storeId)
+                : storeRepository.findSummaryById(storeId))
                 .orElseThrow(() -> new StoreException(INVALID_STORE_ID));
 
-        return StoreDto.fromEntity(store);
+        return StoreDto.fromSummary(store, Owner.fromSummary(store));
     }
 
-    /** 매장 검색 */
+    /** 매장 검색(이름, 주소) */
     @Override
-    public List<StoreSearchResult> searchStoresByName(String name) {
-        List<Store> stores = storeRepository.findAllByNameContainingIgnoreCase(name);
+    public List<StoreSearchResult> searchStoresByName(String name, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 
-        if (stores.size() == 0) {
+        // 인덱스 구성 전에는 DB 에서 이름으로 검색
+        List<StoreSearchResult> results = storeIndexManager.isReady()
+                ? storeNameIndex.search(name, limit).stream()
+                        .map(StoreSearchResult::fromSummary)
+                        .collect(Collectors.toList())
+                : storeRepository.findAllByNameContainingIgnoreCase(name).stream()
+                        .limit(limit)
+                        .map(StoreSearchResult::fromEntity)
+                        .collect(Collectors.toList());
+
+        if (results.size() == 0) {
             throw new StoreException(NO_SEARCH_RESULTS);
         }
 
-        return stores.stream()
-                .map(StoreSearchResult::fromEntity)
+        return results;
+    }
+
+    /** 특정 시각에 영업 중인 매장 조회 */
+    @Override
+    public List<StoreSummary> getOpenStores(LocalDateTime at, String name, Double lat, Double lon, int radius, int limit) {
+        if (!storeIndexManager.isReady()) {
+            throw new StoreException(STORE_INDEX_NOT_READY);
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        boolean hasName = name != null && !name.trim().isEmpty();
+        boolean hasLocation = lat != null && lon != null;
+
+        // 1. 후보 매장(근처 매장 > 이름 검색 > 전체 영업 매장 순으로 선택, 후보의 순서를 유지)
+        List<StoreSummary> candidates;
+        if (hasLocation) {
+            validateLocation(lat, lon, radius);
+            candidates = storeGeoIndex.nearby(lat, lon, radius, Integer.MAX_VALUE).stream()
+                    .map(StoreGeoIndex.Neighbor::getStore)
+                    .collect(Collectors.toList());
+        } else if (hasName) {
+            candidates = storeNameIndex.search(name, Integer.MAX_VALUE);
+        } else {
+            candidates = storeCatalog.findByStatus(StoreStatus.OPEN);
+        }
+
+        // 2. 근처 매장과 이름 검색을 함께 사용하면 이름 검색 결과와 교집합
+        Set<Long> nameMatches = hasLocation && hasName
+                ? storeNameIndex.search(name, Integer.MAX_VALUE).stream()
+                        .map(StoreSummary::getId)
+                        .collect(Collectors.toSet())
+                : null;
+
+        // 3. 영업 상태와 영업 시간(휴무 시간 제외) 비트셋으로 한 번에 필터링
+        DayOfWeek dayOfWeek = at.getDayOfWeek();
+        int minuteOfDay = at.getHour() * 60 + at.getMinute();
+        List<StoreSummary> openStores = new ArrayList<>(size);
+        for (StoreSummary store : candidates) {
+            if (openStores.size() >= size) {
+                break;
+            }
+            if (store.getStoreStatus() != StoreStatus.OPEN
+                    || (nameMatches != null && !nameMatches.contains(store.getId()))) {
+                continue;
+            }
+
+            StoreSchedule schedule = storeScheduleRegistry.get(
+                    store.getId(), store.getBusinessHours(), store.getBreakTime());
+            if (schedule.isOpen(dayOfWeek, minuteOfDay)) {
+                openStores.add(store);
+            }
+        }
+        return openStores;
+    }
+
+    /** 영업 매장 이름 자동완성(인덱스 구성 전에는 결과 없음) */
+    @Override
+    public List<StoreSuggestion> autocompleteStoreNames(String query, int limit) {
+        return storeAutocompleteIndex.suggest(query, Math.max(limit, 1)).stream()
+                .map(StoreSuggestion::fromSummary)
                 .collect(Collectors.toList());
     }
 
+    /** 근처 영업 매장 조회 */
+    @Override
+    public List<NearbyStore> getNearbyStores(double lat, double lon, int radius, int limit) {
+        // 1. 위치, 반경 확인
+        validateLocation(lat, lon, radius);
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // 2. 인덱스 구성 전에는 DB 에서 위도, 경도 범위로 조회 후 거리 계산
+        if (!storeIndexManager.isReady()) {
+            return findNearbyStoresInBoundingBox(lat, lon, radius, size);
+        }
+
+        return storeGeoIndex.nearby(lat, lon, radius, size).stream()
+                .map(neighbor -> new NearbyStore(neighbor.getStore(), neighbor.getDistance()))
+                .collect(Collectors.toList());
+    }
+
+    /** 위치(위도 -90 ~ 90, 경도 -180 ~ 180), 반경(1 ~ maxRadiusMeters) 확인 */
+    private void validateLocation(double lat, double lon, int radius) {
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180 || radius <= 0 || radius > maxRadiusMeters) {
+            throw new StoreException(INVALID_LOCATION);
+        }
+    }
+
+    /** 위도, 경도 범위로 근처 매장 조회 */
+    private List<NearbyStore> findNearbyStoresInBoundingBox(double lat, double lon, int radius, int size) {
+        double latDegrees = StoreGeoIndex.latitudeDegrees(radius);
+        double lonDegrees = StoreGeoIndex.longitudeDegrees(radius, lat);
+
+        return storeRepository.findSummariesInBoundingBox(StoreStatus.OPEN
+                        , lat - latDegrees, lat + latDegrees, lon - lonDegrees, lon + lonDegrees).stream()
+                .map(store -> new NearbyStore(store
+                        , StoreGeoIndex.distanceMeters(lat, lon, store.getLat(), store.getLon())))
+                .filter(store -> store.getDistance() <= radius)
+                .sorted(Comparator.comparingDouble(NearbyStore::getDistance))
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    /** 지도 영역의 지오해시 격자별 매장 클러스터 조회 */
+    @Override
+    public List<StoreCluster> getStoreClusters(String bbox, int zoom) {
+        // 1. 지도 영역 확인(최소 경도,최소 위도,최대 경도,최대 위도)
+        double[] box = parseBoundingBox(bbox);
+        double minLon = box[0], minLat = box[1], maxLon = box[2], maxLat = box[3];
+        int precision = storeClusterIndex.precisionOf(zoom);
+
+        // 2. 인덱스 구성 전에는 DB 에서 영역 내 매장을 조회하여 집계
+        if (!storeIndexManager.isReady()) {
+            StoreClusterIndex clusterIndex = new StoreClusterIndex(precision);
+            storeRepository.findSummariesInBoundingBox(StoreStatus.OPEN, minLat, maxLat, minLon, maxLon)
+                    .forEach(clusterIndex::put);
+            return clusterIndex.clusters(minLat, minLon, maxLat, maxLon, precision);
+        }
+
+        return storeClusterIndex.clusters(minLat, minLon, maxLat, maxLon, precision);
+    }
+
+    /** 지도 영역 문자열(최소 경도,최소 위도,최대 경도,최대 위도) 변환 */
+    private static double[] parseBoundingBox(String bbox) {
+        String[] values = bbox == null ? new String[0] : bbox.split(",");
+        if (values.length != 4) {
+            throw new StoreException(INVALID_BOUNDING_BOX);
+        }
+
+        double[] box = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                box[i] = Double.parseDouble(values[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new StoreException(INVALID_BOUNDING_BOX);
+        }
+
+        if (box[0] < -180 || box[2] > 180 || box[1] < -90 || box[3] > 90 || box[0] > box[2] || box[1] > box[3]) {
+            throw new StoreException(INVALID_BOUNDING_BOX);
+        }
+        return box;
+    }
+
+    /** 매장 폐업 */
+    @Override
+    @Transactional
+    public void closeStore(Long storeId) {
+        // 1. 매장 조회
+        Store store = storeRepository.findWithOwnerById(storeId)
+                .orElseThrow(() -> new StoreException(INVALID_STORE_ID));
+
+        // 2. 유효성 검사(매장 점주, 이미 폐업한 매장 확인)
+        validateStoreOwner(store);
+        if (store.getStoreStatus() == StoreStatus.OUT_OF_BUSINESS) {
+            throw new StoreException(ALREADY_OUT_OF_BUSINESS_STORE);
+        }
+
+        // 3. 폐업 처리
+        store.closeStore();
+        storeRepository.save(store);
+        eventPublisher.publishEvent(new StoreChangedEvent(StoreSummary.fromEntity(store)));
+    }
+
+    /** 매장 점주 확인 */
+    private void validateStoreOwner(Store store) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String authenticatedUserEmail = authentication.getName();
+        if (!Objects.equals(store.getOwner().getEmail(), authenticatedUserEmail)) {
+            throw new StoreException(ACCESS_DENIED_FOR_STORE_MANAGEMENT);
+        }
+    }
+
     /** 점주가 관리하는 매장 조회 */
     @Override
+    @Transactional(readOnly = true)
     public List<StoreDto> getStoresByOwnerId(Long memberId) {
         Member owner = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberException(INVALID_MEMBER_ID));
-        List<Store> stores = storeRepository.findAllByOwner(owner);
+
+        List<StoreDto> stores;
+        if (storeIndexManager.isReady()) {
+            Owner storeOwner = Owner.fromEntity(owner);
+            stores = storeCatalog.findByOwnerId(owner.getId()).stream()
+                    .map(store -> StoreDto.fromSummary(store, storeOwner))
+                    .collect(Collectors.toList());
+        } else {
+            stores = storeRepository.findAllByOwner(owner).stream()
+                    .map(StoreDto::fromEntity)
+                    .collect(Collectors.toList());
+        }
 
         if (stores.size() == 0) {
             throw new StoreException(NO_SEARCH_RESULTS);
         }
 
-        return stores.stream()
-                .map(StoreDto::fromEntity)
-                .collect(Collectors.toList());
+        return stores;
     }
 }
@@ -11,6 +11,8 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류가 발생하였습니다."),
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     CONSTRAINT_VIOLATION(HttpStatus.CONFLICT, "제약 조건 위반"),
+    PASSWORD_HASHING_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    STORE_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "매장 정보를 불러오는 중입니다. 잠시 후 다시 시도해주세요."),
 
     ALREADY_EXISTS_EMAIL(HttpStatus.BAD_REQUEST, "이미 사용중인 이메일입니다."),
     ALREADY_EXISTS_PHONE(HttpStatus.BAD_REQUEST, "이미 사용중인 전화번호입니다."),
@@ -26,6 +28,7 @@ public enum ErrorCode {
     INVALID_EMAIL(HttpStatus.BAD_REQUEST, "존재하지 않는 이메일입니다."),
     INVALID_PHONE(HttpStatus.BAD_REQUEST, "존재하지 않는 전화번호입니다."),
     INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
+    INVALID_APPROVAL_STATUS(HttpStatus.BAD_REQUEST, "예약은 '승인' 또는 '거절'로만 처리할 수 있습니다."),
     INVALID_REVIEW_TYPE(HttpStatus.BAD_REQUEST, "리뷰를 작성할 수 없습니다. 리뷰는 '공개'와 '점주 공개'만 가능합니다."),
 
     EXPIRED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 만료되었습니다."),
@@ -33,15 +36,25 @@ public enum ErrorCode {
     MISMATCHED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 일치하지 않습니다."),
 
     NO_SEARCH_RESULTS(HttpStatus.NOT_FOUND, "검색된 매장이 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+    INVALID_LOCATION(HttpStatus.BAD_REQUEST, "유효하지 않은 위치 또는 검색 반경입니다."),
+    INVALID_BOUNDING_BOX(HttpStatus.BAD_REQUEST, "유효하지 않은 지도 영역입니다. (최소 경도,최소 위도,최대 경도,최대 위도)"),
 
     STORE_CLOSED(HttpStatus.BAD_REQUEST, "매장이 현재 영업 중이지 않습니다."),
     DUPLICATE_STORE(HttpStatus.BAD_REQUEST, "등록된 매장 중 중복된 매장이 존재합니다."),
+    ALREADY_OUT_OF_BUSINESS_STORE(HttpStatus.BAD_REQUEST, "이미 폐업한 매장입니다."),
     EXCEEDED_MAX_STORE_LIMIT(HttpStatus.BAD_REQUEST, "등록할 수 있는 매장 수를 초과했습니다. (최대 2개)"),
 
     DUPLICATE_RESERVATION(HttpStatus.BAD_REQUEST, "요청 시간에 중복된 예약이 존재합니다."),
+    RESERVATION_SLOT_FULL(HttpStatus.BAD_REQUEST, "요청 시간에 예약 가능한 인원을 초과했습니다."),
+    RESERVATION_CODE_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "요청 날짜에 할당할 수 있는 예약 코드가 없습니다."),
     NOT_AVAILABLE_DURING_BREAK_TIME(HttpStatus.BAD_REQUEST, "휴무시간에는 예약이 불가능합니다."),
+    NOT_AVAILABLE_OUTSIDE_BUSINESS_HOURS(HttpStatus.BAD_REQUEST, "영업시간 외에는 예약이 불가능합니다."),
+    INVALID_STORE_SCHEDULE(HttpStatus.BAD_REQUEST, "유효하지 않은 영업 시간 또는 휴무 시간입니다. 시작 시간과 종료 시간이 같을 수 없습니다. (하루 종일은 00:00 - 24:00)"),
+    INVALID_RESERVATION_TIME(HttpStatus.BAD_REQUEST, "유효하지 않은 예약 시간입니다. (00:00 - 23:59)"),
 
     NO_PARTNER_AUTHORITY(HttpStatus.FORBIDDEN, "점주 권한이 없습니다. 파트너 회원 가입이 필요합니다."),
+    ACCESS_DENIED_FOR_STORE_MANAGEMENT(HttpStatus.FORBIDDEN, "매장 관리 권한이 없습니다. 매장 관리는 해당 매장 점주만 가능합니다."),
     ACCESS_DENIED_FOR_CANCELLATION(HttpStatus.FORBIDDEN, "예약 취소 권한이 없습니다. 예약 취소는 본인만 가능합니다."),
     ACCESS_DENIED_FOR_REVIEW(HttpStatus.FORBIDDEN, "리뷰 작성 권한이 없습니다. 리뷰 작성은 본인만 가능합니다."),
     ACCESS_DENIED_APPROVE_OR_REJECT(HttpStatus.FORBIDDEN, "예약 승인 또는 거절 권한이 없습니다. 예약 승인 또는 거절은 해당 매장 점주만 가능합니다."),
@@ -50,7 +63,6 @@ public enum ErrorCode {
     DECLINED_RESERVATION(HttpStatus.BAD_REQUEST, "거절된 예약입니다."),
     UNABLE_TO_CONFIRM_RESERVATION(HttpStatus.BAD_REQUEST, "예약 확인이 불가능합니다. 예약 확인은 방문 1분 전까지만 가능합니다."),
     MISMATCHED_RESERVATION_CODE(HttpStatus.BAD_REQUEST, "예약 확인이 불가능합니다. 예약 코드가 일치하지 않습니다."),
-    NO_RESERVATION_RELATED_TO_STORE(HttpStatus.NOT_FOUND, "매장과 관련된 예약이 존재하지 않습니다."),
 
     ;
 
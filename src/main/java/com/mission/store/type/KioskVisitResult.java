@@ -0,0 +1,18 @@
+package com.mission.store.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum KioskVisitResult {
+
+    VISITED("방문 확인 완료")
+    , ALREADY_VISITED("이미 방문 확인된 예약")
+    , NOT_FOUND("승인된 예약이 없는 예약 코드")
+    , EXPIRED("방문 확인 가능 시간 초과")
+
+    ;
+
+    private final String description;
+}
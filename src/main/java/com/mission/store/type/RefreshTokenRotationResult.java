@@ -0,0 +1,18 @@
+package com.mission.store.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum RefreshTokenRotationResult {
+
+    ROTATED("토큰 교체 완료")
+    , NOT_FOUND("저장된 토큰 없음")
+    , MISMATCHED("토큰 불일치")
+    , EXPIRED("토큰 만료")
+
+    ;
+
+    private final String description;
+}
@@ -0,0 +1,18 @@
+package com.mission.store.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ReservationApprovalResult {
+
+    PROCESSED("승인 또는 거절 완료")
+    , NOT_FOUND("존재하지 않는 예약")
+    , ACCESS_DENIED("매장 점주가 아님")
+    , ALREADY_PROCESSED("이미 처리된 예약")
+
+    ;
+
+    private final String description;
+}
@@ -0,0 +1,16 @@
+package com.mission.store.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum StoreSortType {
+
+    ID("등록순")
+    , RATING("평점 높은순")
+
+    ;
+
+    private final String description;
+}
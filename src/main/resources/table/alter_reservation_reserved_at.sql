@@ -0,0 +1,5 @@
+-- 기존 테이블에 예약 일시 컬럼, 인덱스 추가
+-- (기존 예약의 reserved_at 은 store.reserved-at-backfill.enabled=true 로 기동하면 예약 ID 범위별로 채운다.)
+ALTER TABLE reservation ADD COLUMN reserved_at DATETIME AFTER reservation_time;
+
+CREATE INDEX idx_reservation_store_reserved_at ON reservation (store_id, reserved_at);
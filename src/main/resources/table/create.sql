@@ -11,7 +11,8 @@ CREATE TABLE member
     unregistered_at DATETIME,
     created_at      DATETIME     NOT NULL,
     updated_at      DATETIME     NOT NULL,
-    CONSTRAINT uc_member_email UNIQUE (email)
+    CONSTRAINT uc_member_email UNIQUE (email),
+    CONSTRAINT uc_member_nickname UNIQUE (nickname)
 );
 
 
@@ -29,12 +30,15 @@ CREATE TABLE store
     average_rating     DOUBLE,
     business_hours     VARCHAR(100),
     break_time         VARCHAR(100),
+    slot_capacity      INT,
     out_of_business_at DATETIME,
     created_at         DATETIME     NOT NULL,
     updated_at         DATETIME     NOT NULL,
     CONSTRAINT fk_store_member FOREIGN KEY (member_id) REFERENCES member (id)
 );
 
+CREATE INDEX idx_store_average_rating ON store (average_rating DESC, id);
+
 CREATE TABLE reservation
 (
     id                          BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -42,17 +46,22 @@ CREATE TABLE reservation
     member_id                   BIGINT   NOT NULL,
     reservation_date            DATE,
     reservation_time            VARCHAR(10),
+    reserved_at                 DATETIME,
     reservation_memo            VARCHAR(255),
     number_of_customer          INT,
     reservation_code            VARCHAR(4),
     reservation_visit_status    VARCHAR(50),
     reservation_approval_status VARCHAR(20),
+    active_slot                 BOOLEAN,
     created_at                  DATETIME NOT NULL,
     updated_at                  DATETIME NOT NULL,
     CONSTRAINT fk_reservation_store FOREIGN KEY (store_id) REFERENCES store (id),
-    CONSTRAINT fk_reservation_member FOREIGN KEY (member_id) REFERENCES member (id)
+    CONSTRAINT fk_reservation_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT uk_reservation_active_slot UNIQUE (store_id, reservation_date, reservation_time, active_slot)
 );
 
+CREATE INDEX idx_reservation_store_reserved_at ON reservation (store_id, reserved_at);
+
 CREATE TABLE review
 (
     id             BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -76,6 +85,10 @@ CREATE TABLE refresh_token (
     updated_at DATETIME,
     member_id BIGINT NOT NULL,
     token VARCHAR(255) NOT NULL,
+    expired_at DATETIME,
     FOREIGN KEY (member_id) REFERENCES member (id)
 );
 
+CREATE UNIQUE INDEX idx_refresh_token_member_id ON refresh_token (member_id);
+CREATE INDEX idx_refresh_token_expired_at ON refresh_token (expired_at);
+
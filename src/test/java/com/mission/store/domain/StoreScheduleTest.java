@@ -0,0 +1,135 @@
+package com.mission.store.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.BitSet;
+
+import static java.time.DayOfWeek.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoreScheduleTest {
+
+    @Test
+    @DisplayName("요일 생략 시 매일 같은 영업 시간, 휴무 시간")
+    void dailyWindow() {
+        StoreSchedule schedule = StoreSchedule.compile("09:00 - 18:00", "15:00 - 16:00");
+        for (DayOfWeek day : DayOfWeek.values()) {
+            assertFalse(schedule.isOpen(day, minute("08:59")));
+            assertTrue(schedule.isOpen(day, minute("09:00")));
+            assertTrue(schedule.isOpen(day, minute("14:59")));
+            assertFalse(schedule.isOpen(day, minute("15:00")));
+            assertTrue(schedule.isBreakTime(day, minute("15:30")));
+            assertTrue(schedule.isBusinessHours(day, minute("15:30")));
+            assertTrue(schedule.isOpen(day, minute("16:00")));
+            assertFalse(schedule.isOpen(day, minute("18:00")));
+        }
+    }
+
+    @Test
+    @DisplayName("요일별 영업 시간(요일 범위, 주를 넘어가는 요일 범위)")
+    void weekdayWindows() {
+        StoreSchedule schedule = StoreSchedule.compile("MON-FRI 09:00 - 18:00, SAT 10:00 - 14:00", null);
+        assertTrue(schedule.isOpen(MONDAY, minute("09:00")));
+        assertTrue(schedule.isOpen(FRIDAY, minute("17:59")));
+        assertFalse(schedule.isOpen(SATURDAY, minute("09:00")));
+        assertTrue(schedule.isOpen(SATURDAY, minute("13:59")));
+        assertFalse(schedule.isOpen(SUNDAY, minute("12:00")));
+
+        StoreSchedule weekend = StoreSchedule.compile("FRI-MON 12:00 - 13:00", null);
+        assertTrue(weekend.isOpen(FRIDAY, minute("12:00")));
+        assertTrue(weekend.isOpen(SUNDAY, minute("12:00")));
+        assertTrue(weekend.isOpen(MONDAY, minute("12:00")));
+        assertFalse(weekend.isOpen(TUESDAY, minute("12:00")));
+        assertFalse(weekend.isOpen(THURSDAY, minute("12:00")));
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 구간은 자정 이후를 다음 요일에 기록")
+    void overnightWindowSpillsIntoNextDay() {
+        StoreSchedule schedule = StoreSchedule.compile("FRI 22:00 - 02:00", null);
+        assertFalse(schedule.isOpen(FRIDAY, minute("01:00")));
+        assertTrue(schedule.isOpen(FRIDAY, minute("22:00")));
+        assertTrue(schedule.isOpen(FRIDAY, minute("23:59")));
+        assertTrue(schedule.isOpen(SATURDAY, minute("00:00")));
+        assertTrue(schedule.isOpen(SATURDAY, minute("01:59")));
+        assertFalse(schedule.isOpen(SATURDAY, minute("02:00")));
+        assertFalse(schedule.isOpen(SATURDAY, minute("22:00")));
+
+        // 일요일 자정 이후는 월요일
+        StoreSchedule sunday = StoreSchedule.compile("SUN 23:00 - 01:00", null);
+        assertTrue(sunday.isOpen(MONDAY, minute("00:30")));
+        assertFalse(sunday.isOpen(SUNDAY, minute("00:30")));
+
+        // 매일 자정을 넘기는 영업
+        StoreSchedule daily = StoreSchedule.compile("18:00 - 03:00", "02:00 - 02:30");
+        for (DayOfWeek day : DayOfWeek.values()) {
+            assertTrue(daily.isOpen(day, minute("01:00")));
+            assertFalse(daily.isOpen(day, minute("02:10")));
+            assertFalse(daily.isOpen(day, minute("12:00")));
+        }
+    }
+
+    @Test
+    @DisplayName("시작 시간과 종료 시간이 같은 구간은 유효하지 않다.(하루 종일은 00:00 - 24:00)")
+    void emptyWindowIsInvalid() {
+        assertFalse(StoreSchedule.isValid("00:00 - 00:00"));
+        assertFalse(StoreSchedule.isValid("MON-FRI 09:00 - 18:00, SAT 10:00 - 10:00"));
+        assertTrue(StoreSchedule.isValid("00:00 - 24:00"));
+        assertTrue(StoreSchedule.isValid("FRI 22:00 - 02:00"));
+        assertTrue(StoreSchedule.isValid(null));
+        assertTrue(StoreSchedule.isValid(" "));
+
+        StoreSchedule allDay = StoreSchedule.compile("00:00 - 24:00", null);
+        assertEquals(24 * 60, allDay.openMinutes(WEDNESDAY).cardinality());
+    }
+
+    @Test
+    @DisplayName("영업 시간이 없으면 하루 종일 영업")
+    void missingBusinessHoursMeansAllDay() {
+        StoreSchedule schedule = StoreSchedule.compile(null, "12:00 - 13:00");
+        assertTrue(schedule.isOpen(SUNDAY, minute("00:00")));
+        assertTrue(schedule.isOpen(SUNDAY, minute("23:59")));
+        assertFalse(schedule.isOpen(SUNDAY, minute("12:30")));
+    }
+
+    @Test
+    @DisplayName("요일별 영업 분 비트셋은 영업 시간에서 휴무 시간을 제외한다.")
+    void openMinutesExcludeBreakTime() {
+        StoreSchedule schedule = StoreSchedule.compile("09:00 - 18:00", "15:00 - 16:00");
+        BitSet open = schedule.openMinutes(TUESDAY);
+        assertEquals(8 * 60, open.cardinality());
+        assertEquals(minute("09:00"), open.nextSetBit(0));
+        assertEquals(minute("15:00"), open.nextClearBit(minute("09:00")));
+
+        // 복사본이므로 수정해도 스케줄은 바뀌지 않는다.
+        open.clear();
+        assertEquals(8 * 60, schedule.openMinutes(TUESDAY).cardinality());
+    }
+
+    @Test
+    @DisplayName("\"HH:mm\" 분 단위 변환")
+    void minuteOfDay() {
+        assertEquals(0, StoreSchedule.minuteOfDay("00:00"));
+        assertEquals(13 * 60 + 30, StoreSchedule.minuteOfDay("13:30"));
+        assertEquals(-1, StoreSchedule.minuteOfDay("24:00"));
+        assertEquals(-1, StoreSchedule.minuteOfDay("9:00"));
+        assertEquals(-1, StoreSchedule.minuteOfDay("09:60"));
+        assertEquals(-1, StoreSchedule.minuteOfDay(null));
+        assertFalse(StoreSchedule.compile(null, null).isOpen(MONDAY, -1));
+        assertFalse(StoreSchedule.compile(null, null).isOpen(MONDAY, 24 * 60));
+    }
+
+    @Test
+    @DisplayName("컴파일에 사용한 문자열 확인")
+    void isCompiledFrom() {
+        StoreSchedule schedule = StoreSchedule.compile("09:00 - 18:00", null);
+        assertTrue(schedule.isCompiledFrom("09:00 - 18:00", null));
+        assertFalse(schedule.isCompiledFrom("09:00 - 19:00", null));
+    }
+
+    private static int minute(String time) {
+        return StoreSchedule.minuteOfDay(time);
+    }
+}
@@ -0,0 +1,64 @@
+package com.mission.store.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoHashTest {
+
+    @Test
+    @DisplayName("알려진 좌표의 지오해시 인코딩")
+    void encodeKnownPoints() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("ezs42", GeoHash.encode(42.6, -5.6, 5));
+        assertEquals("wydm9", GeoHash.encode(37.5665, 126.9780, 5));
+    }
+
+    @Test
+    @DisplayName("지오해시 영역은 인코딩한 좌표를 포함하고, 크기는 latitudeSpan, longitudeSpan 과 같다.")
+    void boundsContainEncodedPoint() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            double lat = random.nextDouble() * 180 - 90;
+            double lon = random.nextDouble() * 360 - 180;
+            int precision = 1 + random.nextInt(GeoHash.MAX_PRECISION);
+
+            double[] bounds = GeoHash.bounds(GeoHash.encode(lat, lon, precision));
+            assertTrue(bounds[0] <= lat && lat <= bounds[2], "lat " + lat);
+            assertTrue(bounds[1] <= lon && lon <= bounds[3], "lon " + lon);
+            assertEquals(GeoHash.latitudeSpan(precision), bounds[2] - bounds[0], 1e-9);
+            assertEquals(GeoHash.longitudeSpan(precision), bounds[3] - bounds[1], 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("짧은 지오해시는 긴 지오해시의 접두사")
+    void shorterHashIsPrefix() {
+        Random random = new Random(11);
+        for (int i = 0; i < 1_000; i++) {
+            double lat = random.nextDouble() * 180 - 90;
+            double lon = random.nextDouble() * 360 - 180;
+            String hash = GeoHash.encode(lat, lon, GeoHash.MAX_PRECISION);
+            for (int precision = 1; precision < GeoHash.MAX_PRECISION; precision++) {
+                assertEquals(hash.substring(0, precision), GeoHash.encode(lat, lon, precision));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("위도, 경도의 최댓값은 마지막 격자에 속한다.")
+    void encodeEdges() {
+        assertEquals("zzzzz", GeoHash.encode(90, 180, 5));
+        assertEquals("00000", GeoHash.encode(-90, -180, 5));
+    }
+
+    @Test
+    @DisplayName("base32 에 없는 문자는 예외")
+    void rejectInvalidCharacter() {
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.bounds("u4pa"));
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.bounds("한"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.KioskReservation;
+import com.mission.store.repository.ReservationRepository;
+import com.mission.store.type.KioskVisitResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KioskReservationIndexTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long RESERVATION_ID = 10L;
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+
+    private final List<Long> visited = new ArrayList<>(); // DB 에 반영된 방문 확인
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private KioskReservationIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findKioskReservations(any(), any()))
+                .thenReturn(List.of(reservation(RESERVATION_ID, "0042", "13:00")));
+        when(reservationRepository.markVisitedByIdIn(any(), any())).thenAnswer(invocation -> {
+            if (failing.get()) {
+                throw new IllegalStateException("database unavailable");
+            }
+            visited.addAll((Collection<Long>) invocation.getArgument(0));
+            return ((Collection<Long>) invocation.getArgument(0)).size();
+        });
+        index = new KioskReservationIndex(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("방문 확인은 DB 에 반영될 때까지 반영 전 상태")
+    void pendingUntilFlushed() {
+        assertEquals(KioskVisitResult.VISITED, index.confirmVisit(STORE_ID, DATE, 42, DATE.atTime(13, 5)));
+        assertTrue(index.isPending(RESERVATION_ID));
+
+        index.flush();
+        assertFalse(index.isPending(RESERVATION_ID));
+        assertEquals(List.of(RESERVATION_ID), visited);
+        assertEquals(KioskVisitResult.ALREADY_VISITED, index.confirmVisit(STORE_ID, DATE, 42, DATE.atTime(13, 6)));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 다음 반영까지 반영 전 상태 유지")
+    void pendingWhileFlushFails() {
+        index.confirmVisit(STORE_ID, DATE, 42, DATE.atTime(13, 10));
+
+        failing.set(true);
+        index.flush();
+        assertTrue(index.isPending(RESERVATION_ID));
+        assertTrue(visited.isEmpty());
+
+        failing.set(false);
+        index.flush();
+        assertFalse(index.isPending(RESERVATION_ID));
+        assertEquals(List.of(RESERVATION_ID), visited);
+    }
+
+    @Test
+    @DisplayName("방문 확인 가능 시간이 지나면 반영 대상이 아니다.")
+    void expiredVisitIsNotPending() {
+        assertEquals(KioskVisitResult.EXPIRED, index.confirmVisit(STORE_ID, DATE, 42, DATE.atTime(13, 11)));
+        assertEquals(KioskVisitResult.NOT_FOUND, index.confirmVisit(STORE_ID, DATE, 43, DATE.atTime(13, 0)));
+        assertFalse(index.isPending(RESERVATION_ID));
+    }
+
+    private static KioskReservation reservation(Long id, String reservationCode, String reservationTime) {
+        return new KioskReservation() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getReservationCode() {
+                return reservationCode;
+            }
+
+            @Override
+            public String getReservationTime() {
+                return reservationTime;
+            }
+
+            @Override
+            public int getNumberOfCustomer() {
+                return 2;
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.mission.store.index;
+
+import com.mission.store.domain.StoreSchedule;
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.type.StoreStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 특정 시각에 영업 중인 매장 조회 벤치마크(./gradlew benchmark)
+ * -> 합성 매장 100,000 개를 카탈로그, 스케줄 캐시에 넣은 뒤 전체 영업 매장을 비트셋으로 필터링
+ * -> 비교 기준은 조회마다 영업 시간, 휴무 시간 문자열을 다시 해석하는 방식
+ */
+@Tag("benchmark")
+class OpenStoresBenchmark {
+
+    private static final int STORES = 100_000;
+    private static final int WARMUP_QUERIES = 200;
+    private static final int QUERIES = 1_000;
+
+    private static final String[] BUSINESS_HOURS = {
+            null, "09:00 - 18:00", "10:00 - 22:00", "11:00 - 02:00", "00:00 - 24:00"
+            , "MON-FRI 09:00 - 18:00, SAT 10:00 - 14:00", "TUE-SUN 11:30 - 21:00"
+            , "MON-THU 17:00 - 01:00, FRI-SAT 17:00 - 04:00", "SAT-SUN 08:00 - 15:00"};
+    private static final String[] BREAK_TIMES = {null, "15:00 - 16:00", "14:30 - 17:00, SAT 13:00 - 14:00"};
+
+    @Test
+    @DisplayName("합성 매장 100,000 개 영업 중 매장 필터링")
+    void openAtOneHundredThousandStores() {
+        Random random = new Random(3);
+        StoreCatalog storeCatalog = new StoreCatalog();
+        StoreScheduleRegistry storeScheduleRegistry = new StoreScheduleRegistry();
+
+        storeCatalog.clear();
+        for (int i = 0; i < STORES; i++) {
+            StoreSummary store = StoreSummary.builder()
+                    .id(i + 1L)
+                    .name("store" + i)
+                    .storeStatus(i % 20 == 0 ? StoreStatus.OUT_OF_BUSINESS : StoreStatus.OPEN)
+                    .businessHours(BUSINESS_HOURS[random.nextInt(BUSINESS_HOURS.length)])
+                    .breakTime(BREAK_TIMES[random.nextInt(BREAK_TIMES.length)])
+                    .build();
+            storeCatalog.put(store);
+            storeScheduleRegistry.put(store);
+        }
+        storeCatalog.rebuildCompleted();
+        List<StoreSummary> openStores = storeCatalog.findByStatus(StoreStatus.OPEN);
+
+        // 1. 정확성 확인(문자열을 다시 해석한 결과와 비교)
+        for (int i = 0; i < 5; i++) {
+            DayOfWeek day = DayOfWeek.of(1 + random.nextInt(7));
+            int minute = random.nextInt(24 * 60);
+            assertEquals(countByParsing(openStores, day, minute)
+                    , countByRegistry(openStores, storeScheduleRegistry, day, minute));
+        }
+
+        // 2. 워밍업 후 측정
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            countByRegistry(openStores, storeScheduleRegistry, DayOfWeek.of(1 + i % 7), random.nextInt(24 * 60));
+        }
+        for (int i = 0; i < WARMUP_QUERIES / 10; i++) {
+            countByParsing(openStores.subList(0, 10_000), DayOfWeek.of(1 + i % 7), random.nextInt(24 * 60));
+        }
+
+        long[] latencies = new long[QUERIES];
+        long open = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            long startedAt = System.nanoTime();
+            open += countByRegistry(openStores, storeScheduleRegistry
+                    , DayOfWeek.of(1 + random.nextInt(7)), random.nextInt(24 * 60));
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+
+        int parsingQueries = 5;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < parsingQueries; i++) {
+            countByParsing(openStores, DayOfWeek.of(1 + random.nextInt(7)), random.nextInt(24 * 60));
+        }
+        long parsingAverage = (System.nanoTime() - startedAt) / parsingQueries;
+
+        System.out.printf("open-at (compiled bitsets): %d stores, p50 %dus, p99 %dus, avg open %.0f%n"
+                , openStores.size(), latencies[QUERIES / 2] / 1_000, latencies[QUERIES * 99 / 100] / 1_000
+                , (double) open / QUERIES);
+        System.out.printf("open-at (parse per query): avg %dus%n", parsingAverage / 1_000);
+    }
+
+    private static int countByRegistry(List<StoreSummary> stores, StoreScheduleRegistry storeScheduleRegistry,
+                                       DayOfWeek day, int minute) {
+        int count = 0;
+        for (StoreSummary store : stores) {
+            StoreSchedule schedule = storeScheduleRegistry.get(
+                    store.getId(), store.getBusinessHours(), store.getBreakTime());
+            if (schedule.isOpen(day, minute)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countByParsing(List<StoreSummary> stores, DayOfWeek day, int minute) {
+        int count = 0;
+        for (StoreSummary store : stores) {
+            if (StoreSchedule.compile(store.getBusinessHours(), store.getBreakTime()).isOpen(day, minute)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
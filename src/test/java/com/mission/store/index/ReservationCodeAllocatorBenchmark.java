@@ -0,0 +1,89 @@
+package com.mission.store.index;
+
+import com.mission.store.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예약 코드 할당 처리량 벤치마크(./gradlew benchmark)
+ * -> 스레드마다 할당 후 바로 반환을 반복(매장-날짜 코드가 90% 찬 상태 유지)
+ * -> 한 매장-날짜에 몰리는 경우(같은 락)와 매장 1,000 개에 나뉘는 경우(스트라이프 락)를 스레드 수별로 측정
+ */
+@Tag("benchmark")
+class ReservationCodeAllocatorBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+    private static final int STORES = 1_000;
+    private static final int FILLED = ReservationCodeAllocator.CODE_SPACE * 9 / 10;
+    private static final long DURATION_MS = 1_000;
+
+    @Test
+    @DisplayName("예약 코드 할당 경합 처리량")
+    void allocationThroughputUnderContention() throws Exception {
+        ReservationCodeAllocator allocator = allocator();
+        for (long storeId = 1; storeId <= STORES; storeId++) {
+            for (int i = 0; i < FILLED; i++) {
+                allocator.allocate(storeId, DATE);
+            }
+        }
+
+        run(allocator, 4, 1); // 워밍업
+        run(allocator, 4, STORES);
+        for (int threads : new int[]{1, 4, 16, 64}) {
+            System.out.printf("code allocation: %2d threads, hot store-day  %,12.0f ops/s%n"
+                    , threads, run(allocator, threads, 1));
+            System.out.printf("code allocation: %2d threads, %,d store-days %,12.0f ops/s%n"
+                    , threads, STORES, run(allocator, threads, STORES));
+        }
+    }
+
+    /** DURATION_MS 동안 할당 + 반환 처리량(초당 할당 수) */
+    private static double run(ReservationCodeAllocator allocator, int threads, int stores) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] deadline = new long[1];
+        List<Future<Long>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long operations = 0;
+                long storeId = 1 + ThreadLocalRandom.current().nextInt(stores);
+                while (System.nanoTime() < deadline[0]) {
+                    int code = allocator.allocate(storeId, DATE);
+                    assertTrue(code >= 0);
+                    allocator.release(storeId, DATE, code);
+                    operations++;
+                    storeId = 1 + ThreadLocalRandom.current().nextInt(stores);
+                }
+                return operations;
+            }));
+        }
+
+        deadline[0] = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+        start.countDown();
+        long operations = 0;
+        for (Future<Long> future : futures) {
+            operations += future.get();
+        }
+        executor.shutdown();
+        return operations * 1_000.0 / DURATION_MS;
+    }
+
+    private static ReservationCodeAllocator allocator() {
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findReservationCodes(any(), any(), any(), any())).thenReturn(Collections.emptyList());
+        return new ReservationCodeAllocator(reservationRepository);
+    }
+}
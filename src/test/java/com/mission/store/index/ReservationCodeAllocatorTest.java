@@ -0,0 +1,193 @@
+package com.mission.store.index;
+
+import com.mission.store.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReservationCodeAllocatorTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+    private static final int WORDS = (ReservationCodeAllocator.CODE_SPACE + 63) / 64;
+
+    private final List<String> committed = new ArrayList<>(); // DB 에 저장된 예약 코드
+    private final AtomicInteger loads = new AtomicInteger();
+    private ReservationCodeAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findReservationCodes(any(), any(), any(), any())).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(committed);
+        });
+        allocator = new ReservationCodeAllocator(reservationRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("10,000 개 코드를 겹치지 않게 모두 할당한 뒤 -1 반환")
+    void allocatesEveryCodeOnceThenExhausts() {
+        Set<Integer> codes = new HashSet<>();
+        for (int i = 0; i < ReservationCodeAllocator.CODE_SPACE; i++) {
+            int code = allocator.allocate(STORE_ID, DATE);
+            assertTrue(code >= 0 && code < ReservationCodeAllocator.CODE_SPACE);
+            assertTrue(codes.add(code), "duplicate code " + code);
+        }
+
+        assertEquals(-1, allocator.allocate(STORE_ID, DATE));
+        assertTrue(allocator.allocate(STORE_ID, DATE.plusDays(1)) >= 0); // 다른 날짜는 별도
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("DB 에서 사용 중인 코드는 할당하지 않는다.")
+    void skipsCodesInDatabase() {
+        for (int code = 0; code < ReservationCodeAllocator.CODE_SPACE; code++) {
+            if (code != 42) {
+                committed.add(String.format("%04d", code));
+            }
+        }
+
+        assertEquals(42, allocator.allocate(STORE_ID, DATE));
+        assertEquals(-1, allocator.allocate(STORE_ID, DATE));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("반환한 코드는 다시 할당된다.")
+    void releasedCodeIsReused() {
+        for (int i = 0; i < ReservationCodeAllocator.CODE_SPACE; i++) {
+            allocator.allocate(STORE_ID, DATE);
+        }
+
+        allocator.release(STORE_ID, DATE, 1234);
+        assertEquals(1234, allocator.allocate(STORE_ID, DATE));
+
+        // 적재되지 않은 날짜, 범위 밖 코드는 무시
+        allocator.release(STORE_ID, DATE.plusDays(1), 1234);
+        allocator.release(STORE_ID, DATE, -1);
+        allocator.release(STORE_ID, DATE, ReservationCodeAllocator.CODE_SPACE);
+        assertEquals(-1, allocator.allocate(STORE_ID, DATE));
+    }
+
+    @Test
+    @DisplayName("롤백되면 코드 반환, 커밋되면 유지")
+    void releaseOnRollback() {
+        for (int i = 0; i < ReservationCodeAllocator.CODE_SPACE - 1; i++) {
+            allocator.allocate(STORE_ID, DATE);
+        }
+
+        // 1. 마지막 코드 할당 후 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        int last = allocator.allocate(STORE_ID, DATE);
+        allocator.releaseOnRollback(STORE_ID, DATE, last);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // 2. 반환된 코드를 다시 할당 후 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        assertEquals(last, allocator.allocate(STORE_ID, DATE));
+        allocator.releaseOnRollback(STORE_ID, DATE, last);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(-1, allocator.allocate(STORE_ID, DATE));
+    }
+
+    @Test
+    @DisplayName("비어 있는 비트를 찾다가 끝에 닿으면 처음부터 찾는다.")
+    void nextClearBitWrapsAround() {
+        long[] used = new long[WORDS];
+        Arrays.fill(used, -1L);
+        used[0] &= ~(1L << 5);
+
+        assertEquals(5, ReservationCodeAllocator.nextClearBit(used, 9_999));
+        assertEquals(5, ReservationCodeAllocator.nextClearBit(used, 6));
+        assertEquals(5, ReservationCodeAllocator.nextClearBit(used, 5));
+        assertEquals(5, ReservationCodeAllocator.nextClearBit(used, 0));
+
+        // 마지막 코드만 비어 있는 경우(마지막 long 의 10,000 이후 비트는 사용하지 않는다.)
+        Arrays.fill(used, -1L);
+        used[WORDS - 1] = ~(1L << (9_999 & 63));
+        assertEquals(9_999, ReservationCodeAllocator.nextClearBit(used, 0));
+        assertEquals(9_999, ReservationCodeAllocator.nextClearBit(used, 9_999));
+
+        // 10,000 이후 비트만 비어 있으면 없음
+        used[WORDS - 1] = (1L << ((9_999 & 63) + 1)) - 1;
+        assertEquals(-1, ReservationCodeAllocator.nextClearBit(used, 0));
+        assertEquals(-1, ReservationCodeAllocator.nextClearBit(used, 9_999));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 매장-날짜에 동시에 할당해도 코드가 겹치지 않는다.")
+    void concurrentAllocationIsUnique() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Integer>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Integer> codes = new ArrayList<>();
+                for (int code; (code = allocator.allocate(STORE_ID, DATE)) >= 0; ) {
+                    codes.add(code);
+                }
+                return codes;
+            }));
+        }
+        start.countDown();
+
+        Set<Integer> codes = new HashSet<>();
+        int total = 0;
+        for (Future<List<Integer>> future : futures) {
+            List<Integer> allocated = future.get(30, TimeUnit.SECONDS);
+            codes.addAll(allocated);
+            total += allocated.size();
+        }
+        executor.shutdown();
+
+        assertEquals(ReservationCodeAllocator.CODE_SPACE, total);
+        assertEquals(ReservationCodeAllocator.CODE_SPACE, codes.size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("예약 코드 문자열 변환")
+    void parse() {
+        assertEquals(42, ReservationCodeAllocator.parse("0042"));
+        assertEquals(9_999, ReservationCodeAllocator.parse("9999"));
+        assertEquals(-1, ReservationCodeAllocator.parse("42"));
+        assertEquals(-1, ReservationCodeAllocator.parse("12a4"));
+        assertEquals(-1, ReservationCodeAllocator.parse("-123"));
+        assertEquals(-1, ReservationCodeAllocator.parse(null));
+    }
+
+    /** 현재 스레드의 트랜잭션 완료 */
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,152 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.ReservationSlotUsage;
+import com.mission.store.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReservationSlotIndexTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+    private static final int MINUTE = 13 * 60;
+
+    private final List<ReservationSlotUsage> committed = new ArrayList<>(); // DB 에 커밋된 예약 집계
+    private final AtomicInteger loads = new AtomicInteger();
+    private ReservationSlotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findSlotUsages(any(), any(), any(), any())).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(committed);
+        });
+        index = new ReservationSlotIndex(reservationRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("시간대당 예약 1건인 매장은 두 번째 점유 실패")
+    void exclusiveSlot() {
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 2, null));
+        assertFalse(index.tryReserve(STORE_ID, DATE, MINUTE, 1, null));
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE + 30, 1, null));
+
+        index.release(STORE_ID, DATE, MINUTE, 2);
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 1, null));
+    }
+
+    @Test
+    @DisplayName("시간대 인원 합계는 capacity 이하")
+    void capacity() {
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 3, 4));
+        assertFalse(index.tryReserve(STORE_ID, DATE, MINUTE, 2, 4));
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 1, 4));
+        assertTrue(index.unavailableMinutes(STORE_ID, DATE, 1, 4).get(MINUTE));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 커밋 전 점유 해제")
+    void rollbackReleasesClaim() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 3, 4));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 4, 4));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 커밋되면 적재된 사용량으로 확정(DB 재집계 없음)")
+    void commitKeepsClaim() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 3, 4));
+        committed.add(usage("13:00", 1, 3));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertFalse(index.tryReserve(STORE_ID, DATE, MINUTE, 2, 4));
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 1, 4));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("커밋 전 점유는 매장-날짜가 제거, 재적재되어도 유지되고, 커밋 후에는 DB 에서 다시 집계")
+    void claimSurvivesEvictionAndReload() throws InterruptedException {
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 3, 4));
+
+        // 1. 다른 트랜잭션(예약 승인/거절)에서 매장-날짜 제거 후 재적재(커밋 전 예약은 DB 집계에 없다.)
+        boolean[] reserved = new boolean[2];
+        inOtherThread(() -> {
+            index.evictAfterCommit(STORE_ID, DATE);
+            reserved[0] = index.tryReserve(STORE_ID, DATE, MINUTE, 2, 4);
+            reserved[1] = index.unavailableMinutes(STORE_ID, DATE, 2, 4).get(MINUTE);
+        });
+        assertFalse(reserved[0], "uncommitted claim must still count after reload");
+        assertTrue(reserved[1]);
+        assertEquals(2, loads.get());
+
+        // 2. 커밋되면 재적재된 사용량에 포함되었는지 알 수 없으므로 다시 집계
+        committed.add(usage("13:00", 1, 3));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertFalse(index.tryReserve(STORE_ID, DATE, MINUTE, 2, 4));
+        assertEquals(3, loads.get());
+        assertTrue(index.tryReserve(STORE_ID, DATE, MINUTE, 1, 4));
+    }
+
+    /** 현재 스레드의 트랜잭션 완료 */
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static void inOtherThread(Runnable task) throws InterruptedException {
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+    }
+
+    private static ReservationSlotUsage usage(String reservationTime, long bookings, long guests) {
+        return new ReservationSlotUsage() {
+            @Override
+            public String getReservationTime() {
+                return reservationTime;
+            }
+
+            @Override
+            public Long getBookings() {
+                return bookings;
+            }
+
+            @Override
+            public Long getGuests() {
+                return guests;
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.type.StoreStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 근처 매장 조회 벤치마크(./gradlew benchmark)
+ * -> 수도권 범위에 합성 매장 1,000,000 개를 색인한 뒤 반경 1km, 20개 조회의 처리량과 지연 시간 측정
+ * -> 일부 조회는 전체 탐색 결과와 비교
+ */
+@Tag("benchmark")
+class StoreGeoIndexBenchmark {
+
+    private static final int STORES = 1_000_000;
+    private static final int WARMUP_QUERIES = 5_000;
+    private static final int QUERIES = 20_000;
+
+    @Test
+    @DisplayName("합성 매장 1,000,000 개 근처 매장 조회")
+    void nearbyOneMillionStores() {
+        Random random = new Random(1);
+        StoreGeoIndex index = new StoreGeoIndex(0.01);
+        List<StoreSummary> stores = new ArrayList<>(STORES);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < STORES; i++) {
+            StoreSummary store = StoreGeoIndexTest.store(i + 1L
+                    , 37.0 + random.nextDouble() * 1.0
+                    , 126.5 + random.nextDouble() * 1.0
+                    , StoreStatus.OPEN);
+            stores.add(store);
+            index.put(store);
+        }
+        System.out.printf("index build: %d stores, %dms%n", STORES, (System.nanoTime() - startedAt) / 1_000_000);
+
+        // 1. 정확성 확인(전체 탐색과 비교)
+        for (int i = 0; i < 20; i++) {
+            double lat = 37.0 + random.nextDouble();
+            double lon = 126.5 + random.nextDouble();
+            assertEquals(StoreGeoIndexTest.bruteForce(stores, lat, lon, 1_000, 20)
+                    , StoreGeoIndexTest.ids(index.nearby(lat, lon, 1_000, 20)));
+        }
+
+        // 2. 워밍업 후 측정
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            index.nearby(37.0 + random.nextDouble(), 126.5 + random.nextDouble(), 1_000, 20);
+        }
+
+        long[] latencies = new long[QUERIES];
+        long found = 0;
+        startedAt = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            long queryStartedAt = System.nanoTime();
+            found += index.nearby(37.0 + random.nextDouble(), 126.5 + random.nextDouble(), 1_000, 20).size();
+            latencies[i] = System.nanoTime() - queryStartedAt;
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        System.out.printf("nearby: %d queries, %.0f ops/s, p50 %dus, p99 %dus, avg results %.1f%n"
+                , QUERIES, QUERIES * 1e9 / elapsed
+                , latencies[QUERIES / 2] / 1_000, latencies[QUERIES * 99 / 100] / 1_000
+                , (double) found / QUERIES);
+    }
+}
@@ -0,0 +1,114 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.type.StoreStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoreGeoIndexTest {
+
+    @Test
+    @DisplayName("근처 매장 조회 결과는 전체 탐색 결과와 같다.(날짜 변경선, 고위도 포함)")
+    void nearbyMatchesBruteForce() {
+        Random random = new Random(42);
+        StoreGeoIndex index = new StoreGeoIndex(0.01);
+        List<StoreSummary> stores = new ArrayList<>();
+        double[][] centers = {{37.5, 127.0}, {0.0, 179.99}, {0.0, -179.99}, {70.0, 20.0}, {-33.9, 151.2}};
+        for (int i = 0; i < 20_000; i++) {
+            double[] center = centers[i % centers.length];
+            StoreSummary store = store(i + 1L
+                    , clampLat(center[0] + random.nextGaussian() * 0.05)
+                    , wrapLon(center[1] + random.nextGaussian() * 0.05)
+                    , i % 10 == 0 ? StoreStatus.OUT_OF_BUSINESS : StoreStatus.OPEN);
+            stores.add(store);
+            index.put(store);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            double[] center = centers[i % centers.length];
+            double lat = clampLat(center[0] + random.nextGaussian() * 0.05);
+            double lon = wrapLon(center[1] + random.nextGaussian() * 0.05);
+            double radius = 100 + random.nextInt(5_000);
+            int limit = 1 + random.nextInt(30);
+
+            assertEquals(bruteForce(stores, lat, lon, radius, limit), ids(index.nearby(lat, lon, radius, limit))
+                    , "lat " + lat + ", lon " + lon + ", radius " + radius + ", limit " + limit);
+        }
+    }
+
+    @Test
+    @DisplayName("폐업 매장은 제거되고, 위치가 바뀐 매장은 새 위치에서 조회된다.")
+    void putReplacesPreviousLocation() {
+        StoreGeoIndex index = new StoreGeoIndex(0.01);
+        index.put(store(1L, 37.5665, 126.9780, StoreStatus.OPEN));
+        index.put(store(2L, 37.5670, 126.9785, StoreStatus.OPEN));
+        assertEquals(Arrays.asList(1L, 2L), ids(index.nearby(37.5665, 126.9780, 1_000, 10)));
+
+        // 1. 위치 변경
+        index.put(store(1L, 35.1796, 129.0756, StoreStatus.OPEN));
+        assertEquals(Collections.singletonList(2L), ids(index.nearby(37.5665, 126.9780, 1_000, 10)));
+        assertEquals(Collections.singletonList(1L), ids(index.nearby(35.1796, 129.0756, 1_000, 10)));
+
+        // 2. 폐업
+        index.put(store(2L, 37.5670, 126.9785, StoreStatus.OUT_OF_BUSINESS));
+        assertTrue(index.nearby(37.5665, 126.9780, 1_000, 10).isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("하버사인 거리")
+    void distanceMeters() {
+        // 서울시청 - 부산시청 약 325km
+        assertEquals(325_000, StoreGeoIndex.distanceMeters(37.5665, 126.9780, 35.1796, 129.0756), 5_000);
+        assertEquals(0, StoreGeoIndex.distanceMeters(37.5, 127.0, 37.5, 127.0), 1e-9);
+        assertEquals(StoreGeoIndex.distanceMeters(0, 179.999, 0, -179.999)
+                , StoreGeoIndex.distanceMeters(0, -0.001, 0, 0.001), 1e-6);
+    }
+
+    static StoreSummary store(Long id, double lat, double lon, StoreStatus storeStatus) {
+        return StoreSummary.builder()
+                .id(id)
+                .name("store" + id)
+                .storeStatus(storeStatus)
+                .lat(lat)
+                .lon(lon)
+                .build();
+    }
+
+    /** 전체 매장을 거리순으로 정렬해서 반경 내 limit 개 선택 */
+    static List<Long> bruteForce(List<StoreSummary> stores, double lat, double lon, double radius, int limit) {
+        List<double[]> candidates = new ArrayList<>();
+        for (StoreSummary store : stores) {
+            double distance = StoreGeoIndex.distanceMeters(lat, lon, store.getLat(), store.getLon());
+            if (store.getStoreStatus() == StoreStatus.OPEN && distance <= radius) {
+                candidates.add(new double[]{distance, store.getId()});
+            }
+        }
+        candidates.sort(Comparator.<double[]>comparingDouble(candidate -> candidate[0])
+                .thenComparingDouble(candidate -> candidate[1]));
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < candidates.size() && i < limit; i++) {
+            ids.add((long) candidates.get(i)[1]);
+        }
+        return ids;
+    }
+
+    static List<Long> ids(List<StoreGeoIndex.Neighbor> neighbors) {
+        List<Long> ids = new ArrayList<>();
+        neighbors.forEach(neighbor -> ids.add(neighbor.getStore().getId()));
+        return ids;
+    }
+
+    private static double clampLat(double lat) {
+        return Math.max(-90, Math.min(90, lat));
+    }
+
+    private static double wrapLon(double lon) {
+        return lon >= 180 ? lon - 360 : lon < -180 ? lon + 360 : lon;
+    }
+}
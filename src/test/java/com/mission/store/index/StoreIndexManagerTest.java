@@ -0,0 +1,74 @@
+package com.mission.store.index;
+
+import com.mission.store.dto.StoreSummary;
+import com.mission.store.event.StoreChangedEvent;
+import com.mission.store.repository.StoreRepository;
+import com.mission.store.type.StoreStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class StoreIndexManagerTest {
+
+    private StoreCatalog storeCatalog;
+    private StoreIndexManager storeIndexManager;
+
+    @BeforeEach
+    void setUp() {
+        storeCatalog = new StoreCatalog();
+        storeIndexManager = new StoreIndexManager(mock(StoreRepository.class), List.of(storeCatalog));
+    }
+
+    @Test
+    @DisplayName("조회 이후 변경 이벤트가 없으면 DB 기준으로 재반영")
+    void refreshAppliesWhenUnchanged() {
+        storeIndexManager.onStoreChanged(new StoreChangedEvent(store(1L, 3)));
+
+        long sequence = storeIndexManager.eventSequence();
+        assertTrue(storeIndexManager.refresh(store(1L, 4), sequence));
+        assertEquals(4, (int) storeCatalog.findById(1L).orElseThrow().getReviewCount());
+    }
+
+    @Test
+    @DisplayName("조회 이후 변경 이벤트가 반영된 매장은 이전 행으로 덮어쓰지 않는다.")
+    void refreshSkipsStoreChangedAfterRead() {
+        long sequence = storeIndexManager.eventSequence();
+        StoreSummary read = store(1L, 3); // 확인 조회 결과
+        storeIndexManager.onStoreChanged(new StoreChangedEvent(store(1L, 4))); // 이후 커밋된 리뷰
+
+        assertFalse(storeIndexManager.refresh(read, sequence));
+        assertEquals(4, (int) storeCatalog.findById(1L).orElseThrow().getReviewCount());
+
+        // 다른 매장의 변경은 영향 없음
+        assertTrue(storeIndexManager.refresh(store(2L, 1), sequence));
+    }
+
+    @Test
+    @DisplayName("조회 이후 등록된 매장은 제거하지 않는다.")
+    void removeSkipsStoreRegisteredAfterRead() {
+        long sequence = storeIndexManager.eventSequence();
+        storeIndexManager.onStoreChanged(new StoreChangedEvent(store(1L, 0)));
+
+        assertFalse(storeIndexManager.remove(1L, sequence));
+        assertTrue(storeCatalog.findById(1L).isPresent());
+
+        assertTrue(storeIndexManager.remove(1L, storeIndexManager.eventSequence()));
+        assertFalse(storeCatalog.findById(1L).isPresent());
+    }
+
+    private static StoreSummary store(Long id, int reviewCount) {
+        return StoreSummary.builder()
+                .id(id)
+                .name("store" + id)
+                .storeStatus(StoreStatus.OPEN)
+                .lat(37.5)
+                .lon(127.0)
+                .reviewCount(reviewCount)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.mission.store.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long NOW = 28_000_000L; // 2023년 무렵의 에포크 분
+
+    @Test
+    @DisplayName("만료 시각이 되어야 만료된다.")
+    void expiresAtDeadline() {
+        TimingWheel<Long> wheel = new TimingWheel<>(NOW);
+        wheel.add(1L, NOW + 10);
+
+        assertTrue(wheel.advance(NOW + 9).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(NOW + 10));
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.advance(NOW + 100).isEmpty());
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않는다.")
+    void cancelledItemDoesNotExpire() {
+        TimingWheel<Long> wheel = new TimingWheel<>(NOW);
+        wheel.add(1L, NOW + 10);
+        wheel.add(2L, NOW + 10);
+        wheel.cancel(1L);
+
+        assertEquals(List.of(2L), wheel.advance(NOW + 10));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("다시 추가하면 새 만료 시각에만 만료된다.")
+    void readdMovesDeadline() {
+        TimingWheel<Long> wheel = new TimingWheel<>(NOW);
+        wheel.add(1L, NOW + 5_000); // 상위 단계
+        wheel.add(1L, NOW + 3);
+
+        assertEquals(List.of(1L), wheel.advance(NOW + 3));
+
+        wheel.add(2L, NOW + 10);
+        wheel.add(2L, NOW + 5_000);
+        assertTrue(wheel.advance(NOW + 4_999).isEmpty());
+        assertEquals(List.of(2L), wheel.advance(NOW + 5_000));
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각으로 추가하면 다음 진행에서 만료된다.")
+    void pastDeadlineExpiresOnNextAdvance() {
+        TimingWheel<Long> wheel = new TimingWheel<>(NOW);
+        wheel.add(1L, NOW - 30);
+        wheel.add(2L, NOW);
+
+        assertEquals(Set.of(1L, 2L), new HashSet<>(wheel.advance(NOW)));
+    }
+
+    @Test
+    @DisplayName("최상위 단계까지 올라간 항목도 하위 단계로 내려와 정확한 시각에 만료된다.")
+    void longHorizonCascades() {
+        long start = (1L << 24) - 10; // 4단계 경계 직전
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        long deadline = (1L << 24) + (1L << 18) + 5; // 4단계 칸 -> 3단계 -> ... -> 0단계
+        wheel.add(1L, deadline);
+        wheel.add(2L, start + 64 * 64 + 1); // 2단계
+
+        assertEquals(List.of(2L), wheel.advance(deadline - 1));
+        assertEquals(List.of(1L), wheel.advance(deadline));
+    }
+
+    @Test
+    @DisplayName("무작위 추가, 취소, 진행 결과가 전체 탐색 결과와 같다.")
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        long current = NOW;
+        TimingWheel<Long> wheel = new TimingWheel<>(current);
+        Map<Long, Long> model = new HashMap<>();
+
+        for (int round = 0; round < 300; round++) {
+            // 1. 추가, 다시 추가, 취소
+            for (int i = 0; i < 20; i++) {
+                long item = random.nextInt(2_000);
+                if (random.nextInt(5) == 0) {
+                    wheel.cancel(item);
+                    model.remove(item);
+                } else {
+                    long deadline = current - 5 + random.nextInt(random.nextBoolean() ? 100 : 300_000);
+                    wheel.add(item, deadline);
+                    model.put(item, deadline);
+                }
+            }
+
+            // 2. 진행 후 만료 항목 비교(만료 시각 순서)
+            long now = current + random.nextInt(random.nextBoolean() ? 10 : 5_000);
+            List<Long> expired = wheel.advance(now);
+            Set<Long> expected = new HashSet<>();
+            for (Map.Entry<Long, Long> entry : model.entrySet()) {
+                if (entry.getValue() <= now) {
+                    expected.add(entry.getKey());
+                }
+            }
+            assertEquals(expected, new HashSet<>(expired));
+            assertEquals(expected.size(), expired.size());
+            for (int i = 1; i < expired.size(); i++) {
+                assertTrue(Math.max(model.get(expired.get(i - 1)), current)
+                        <= Math.max(model.get(expired.get(i)), current));
+            }
+
+            model.keySet().removeAll(expected);
+            assertEquals(model.size(), wheel.size());
+            current = now;
+        }
+    }
+}
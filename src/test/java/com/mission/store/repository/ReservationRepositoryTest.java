@@ -0,0 +1,146 @@
+package com.mission.store.repository;
+
+import com.mission.store.config.JpaAuditingConfiguration;
+import com.mission.store.domain.Member;
+import com.mission.store.domain.Reservation;
+import com.mission.store.domain.Store;
+import com.mission.store.dto.ReservationSummary;
+import com.mission.store.type.MemberRole;
+import com.mission.store.type.MemberStatus;
+import com.mission.store.type.ReservationApprovalStatus;
+import com.mission.store.type.ReservationVisitStatus;
+import com.mission.store.type.StoreStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 일시(reserved_at) 범위 조회 테스트(H2 MySQL 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reservation;MODE=MySQL;DB_CLOSE_DELAY=-1"
+        , "spring.datasource.driver-class-name=org.h2.Driver"
+        , "spring.datasource.username=sa"
+        , "spring.datasource.password="
+        , "spring.jpa.database=h2"
+        , "spring.jpa.show-sql=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfiguration.class)
+class ReservationRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Store store;
+    private Store otherStore;
+    private Member customer;
+
+    @BeforeEach
+    void setUp() {
+        Member owner = memberRepository.save(member("owner", MemberRole.OWNER));
+        customer = memberRepository.save(member("customer", MemberRole.CUSTOMER));
+        store = storeRepository.save(store(owner, "store"));
+        otherStore = storeRepository.save(store(owner, "other"));
+    }
+
+    @Test
+    @DisplayName("예약 일시 범위(from 이상 to 미만)의 매장 예약을 예약 일시순으로 조회")
+    void findSummariesByStoreIdAndReservedAtRange() {
+        Long nine = save(store, DATE, "09:00").getId();
+        Long one = save(store, DATE, "13:00").getId();
+        Long oneThirty = save(store, DATE, "13:30").getId();
+        save(store, DATE, "15:00");
+        save(store, DATE.plusDays(1), "13:00");
+        save(otherStore, DATE, "13:00");
+
+        LocalDateTime from = DATE.atTime(13, 0);
+        LocalDateTime to = DATE.atTime(15, 0);
+        assertEquals(List.of(one, oneThirty), ids(reservationRepository.findSummariesByStoreIdAndReservedAtRange(
+                store.getId(), from, to, PageRequest.of(0, 20))));
+        assertEquals(2, reservationRepository.countByStoreIdAndReservedAtRange(store.getId(), from, to));
+
+        // 페이지 크기만큼 앞에서부터
+        assertEquals(List.of(nine, one), ids(reservationRepository.findSummariesByStoreIdAndReservedAtRange(
+                store.getId(), DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay(), PageRequest.of(0, 2))));
+        assertEquals(4, reservationRepository.countByStoreIdAndReservedAtRange(
+                store.getId(), DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("예약 일시가 백필되지 않은 예약은 범위 조회에서 제외")
+    void excludesReservationsWithoutReservedAt() {
+        reservationRepository.save(reservation(store, DATE, "13:00", null));
+
+        assertTrue(reservationRepository.findSummariesByStoreIdAndReservedAtRange(store.getId()
+                , DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay(), PageRequest.of(0, 20)).isEmpty());
+        assertEquals(0, reservationRepository.countByStoreIdAndReservedAtRange(store.getId()
+                , DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay()));
+    }
+
+    private Reservation save(Store store, LocalDate date, String time) {
+        return reservationRepository.save(reservation(store, date, time, date.atTime(LocalTime.parse(time))));
+    }
+
+    private Reservation reservation(Store store, LocalDate date, String time, LocalDateTime reservedAt) {
+        return Reservation.builder()
+                .store(store)
+                .customer(customer)
+                .reservationDate(date)
+                .reservationTime(time)
+                .reservedAt(reservedAt)
+                .numberOfCustomer(2)
+                .reservationCode("0001")
+                .reservationVisitStatus(ReservationVisitStatus.NOT_VISITED)
+                .reservationApprovalStatus(ReservationApprovalStatus.APPROVED)
+                .build();
+    }
+
+    private static List<Long> ids(List<ReservationSummary> reservations) {
+        return reservations.stream()
+                .map(ReservationSummary::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static Member member(String name, MemberRole memberRole) {
+        return Member.builder()
+                .email(name + "@test.com")
+                .phone(name)
+                .nickname(name)
+                .password("password")
+                .memberStatus(MemberStatus.ACTIVE)
+                .memberRole(memberRole)
+                .build();
+    }
+
+    private static Store store(Member owner, String name) {
+        return Store.builder()
+                .owner(owner)
+                .name(name)
+                .address("address")
+                .description("description")
+                .storeStatus(StoreStatus.OPEN)
+                .lat(37.5665)
+                .lon(126.9780)
+                .reviewCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.mission.store.service.impl;
+
+import com.mission.store.config.JpaAuditingConfiguration;
+import com.mission.store.domain.Member;
+import com.mission.store.domain.Store;
+import com.mission.store.repository.MemberRepository;
+import com.mission.store.repository.ReservationRepository;
+import com.mission.store.repository.StoreRepository;
+import com.mission.store.type.MemberRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 인기 시간대 예약 경합 벤치마크(./gradlew benchmark)
+ * -> 200개 클라이언트가 각자 트랜잭션으로 같은 시간대에 동시 저장(커넥션 50개, H2 MySQL 모드)
+ * -> 라운드마다 다른 시간대를 사용하며, 매 라운드 정확히 1건만 저장되는지 확인하고 초당 처리 건수(저장 시도) 측정
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:contention-benchmark;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1"
+        , "spring.datasource.driver-class-name=org.h2.Driver"
+        , "spring.datasource.username=sa"
+        , "spring.datasource.password="
+        , "spring.datasource.hikari.maximum-pool-size=50"
+        , "spring.jpa.database=h2"
+        , "spring.jpa.show-sql=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationActiveSlotContentionBenchmark {
+
+    private static final int CLIENTS = 200;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("200개 클라이언트 같은 시간대 동시 예약 처리량")
+    void hotSlotThroughput() throws Exception {
+        Store store = storeRepository.save(ReservationActiveSlotContentionTest.store(
+                memberRepository.save(ReservationActiveSlotContentionTest.member("owner", MemberRole.OWNER))));
+        List<Member> customers = memberRepository.saveAll(ReservationActiveSlotContentionTest.customers(CLIENTS));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long attempts = 0;
+        long elapsedNanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            String reservationTime = String.format("%02d:00", 9 + round);
+            ReservationActiveSlotContentionTest.Contention contention = ReservationActiveSlotContentionTest
+                    .insertConcurrently(transactionTemplate, reservationRepository, store, customers, reservationTime);
+
+            assertEquals(1, contention.inserted.get());
+            assertEquals(CLIENTS - 1, contention.duplicates.get());
+            assertEquals(0, contention.failures.get());
+
+            if (round >= WARMUP_ROUNDS) {
+                attempts += CLIENTS;
+                elapsedNanos += contention.elapsedNanos;
+                System.out.printf("hot slot contention: %d clients, round %d, %dms, %,.0f ops/s%n"
+                        , CLIENTS, round - WARMUP_ROUNDS + 1, contention.elapsedNanos / 1_000_000
+                        , CLIENTS * 1e9 / contention.elapsedNanos);
+            }
+        }
+
+        System.out.printf("hot slot contention: %d clients x %d rounds, avg %,.0f ops/s%n"
+                , CLIENTS, ROUNDS, attempts * 1e9 / elapsedNanos);
+    }
+}
@@ -0,0 +1,199 @@
+package com.mission.store.service.impl;
+
+import com.mission.store.config.JpaAuditingConfiguration;
+import com.mission.store.domain.Member;
+import com.mission.store.domain.Reservation;
+import com.mission.store.domain.Store;
+import com.mission.store.repository.MemberRepository;
+import com.mission.store.repository.ReservationRepository;
+import com.mission.store.repository.StoreRepository;
+import com.mission.store.type.MemberRole;
+import com.mission.store.type.MemberStatus;
+import com.mission.store.type.ReservationApprovalStatus;
+import com.mission.store.type.ReservationVisitStatus;
+import com.mission.store.type.StoreStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 시간대당 예약 1건 유니크 키(uk_reservation_active_slot) 경합 테스트
+ * -> 인메모리 시간대 인덱스를 거치지 않고(여러 서버에서 동시에 저장하는 경우) 여러 클라이언트가 같은 시간대에 동시 저장
+ * -> 정확히 1건만 저장되고 나머지는 유니크 키 위반(중복 예약)으로 분류되는지 확인
+ * -> 200개 클라이언트 처리량은 ReservationActiveSlotContentionBenchmark(./gradlew benchmark)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:contention;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1"
+        , "spring.datasource.driver-class-name=org.h2.Driver"
+        , "spring.datasource.username=sa"
+        , "spring.datasource.password="
+        , "spring.jpa.database=h2"
+        , "spring.jpa.show-sql=false"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationActiveSlotContentionTest {
+
+    private static final int CLIENTS = 8;
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 클라이언트가 같은 시간대에 동시 저장하면 정확히 1건만 저장된다.")
+    void onlyOneInsertWinsHotSlot() throws Exception {
+        Store store = storeRepository.save(store(memberRepository.save(member("owner", MemberRole.OWNER))));
+        List<Member> customers = memberRepository.saveAll(customers(CLIENTS));
+
+        Contention contention = insertConcurrently(new TransactionTemplate(transactionManager)
+                , reservationRepository, store, customers, "13:00");
+
+        assertEquals(1, contention.inserted.get());
+        assertEquals(CLIENTS - 1, contention.duplicates.get());
+        assertEquals(0, contention.failures.get());
+        assertEquals(1, reservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("시간대 유니크 키가 아닌 제약 조건 위반은 중복 예약으로 분류하지 않는다.")
+    void otherConstraintViolationIsNotDuplicate() {
+        Member customer = memberRepository.save(member("customer", MemberRole.CUSTOMER));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 존재하지 않는 매장(외래 키 위반)
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class, () ->
+                transactionTemplate.executeWithoutResult(status -> reservationRepository.saveAndFlush(
+                        reservation(storeRepository.getReferenceById(Long.MAX_VALUE), customer, "13:00"))));
+        assertFalse(ReservationServiceImpl.isActiveSlotViolation(e));
+    }
+
+    /**
+     * 손님마다 별도 트랜잭션으로 같은 시간대에 동시 저장
+     * -> 모든 클라이언트가 준비된 뒤 한 번에 시작하며, 실패는 시간대 유니크 키 위반과 그 외로 나누어 집계
+     */
+    static Contention insertConcurrently(TransactionTemplate transactionTemplate, ReservationRepository reservationRepository,
+                                         Store store, List<Member> customers, String reservationTime) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(customers.size());
+        CountDownLatch ready = new CountDownLatch(customers.size());
+        CountDownLatch start = new CountDownLatch(1);
+        Contention contention = new Contention();
+
+        List<Future<?>> futures = new ArrayList<>(customers.size());
+        for (Member customer : customers) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> reservationRepository.saveAndFlush(
+                            reservation(store, customer, reservationTime)));
+                    contention.inserted.incrementAndGet();
+                } catch (DataIntegrityViolationException e) {
+                    (ReservationServiceImpl.isActiveSlotViolation(e) ? contention.duplicates : contention.failures)
+                            .incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        contention.elapsedNanos = System.nanoTime() - startedAt;
+        return contention;
+    }
+
+    /** 동시 저장 결과 */
+    static final class Contention {
+
+        final AtomicInteger inserted = new AtomicInteger();
+        final AtomicInteger duplicates = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        long elapsedNanos;
+    }
+
+    static List<Member> customers(int count) {
+        List<Member> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            customers.add(member("customer" + i, MemberRole.CUSTOMER));
+        }
+        return customers;
+    }
+
+    static Member member(String name, MemberRole memberRole) {
+        return Member.builder()
+                .email(name + "@test.com")
+                .phone(name)
+                .nickname(name)
+                .password("password")
+                .memberStatus(MemberStatus.ACTIVE)
+                .memberRole(memberRole)
+                .build();
+    }
+
+    static Store store(Member owner) {
+        return Store.builder()
+                .owner(owner)
+                .name("store")
+                .address("address")
+                .description("description")
+                .storeStatus(StoreStatus.OPEN)
+                .lat(37.5665)
+                .lon(126.9780)
+                .reviewCount(0)
+                .build();
+    }
+
+    private static Reservation reservation(Store store, Member customer, String reservationTime) {
+        return Reservation.builder()
+                .store(store)
+                .customer(customer)
+                .reservationDate(DATE)
+                .reservationTime(reservationTime)
+                .reservedAt(DATE.atTime(LocalTime.parse(reservationTime)))
+                .numberOfCustomer(2)
+                .reservationCode("0001")
+                .reservationVisitStatus(ReservationVisitStatus.NOT_VISITED)
+                .reservationApprovalStatus(ReservationApprovalStatus.PENDING)
+                .activeSlot(Boolean.TRUE)
+                .build();
+    }
+}